@@ -0,0 +1,193 @@
+package com.abc.batch.job.test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * InnoRules 클러스터 동시 호출 수 적응형 제한기 (Job 전체 파티션 공유)
+ *
+ * 알고리즘 (AIMD + latency gradient):
+ * - 단기 응답시간 EWMA(최근 추세)와 기준 응답시간(최소값, 수 분에 걸쳐 천천히 상향 추종)을 함께 추적
+ * - 단기 / 기준 > latencyTolerance 이거나 RulesException 발생 → limit × backoffRatio (곱셈 감소)
+ * - 그 외 limit을 거의 다 사용 중이면 → limit + 1/limit (한 바퀴마다 +1, 덧셈 증가)
+ * - 감소는 단기 응답시간 1회 주기 안에 한 번만 적용 (연쇄 감소 방지)
+ * - initialLimit에서 시작해 maxLimit(스케줄러가 낼 수 있는 최대 동시 호출 수)까지 증가
+ * - Job 시작 시 reset()으로 limit / 응답시간 기준선 초기화 (이전 실행의 감소 상태를 넘겨받지 않음)
+ *
+ * 메트릭:
+ * - wless.rule.concurrency.limit    : 현재 허용 동시 호출 수
+ * - wless.rule.concurrency.inflight : 현재 실행 중 호출 수
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    // 단기 EWMA 가중치
+    private static final double SHORT_ALPHA = 0.1d;
+
+    // 기준 응답시간 상향 추종 시상수 (호출 건수가 아닌 경과 시간 기준)
+    private static final long BASELINE_TAU_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    // limit 사용률이 이 값 이상일 때만 증가 (사용하지 않는 limit은 늘리지 않음)
+    private static final double UTILIZATION_FOR_INCREASE = 0.8d;
+
+    private final String name;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+
+    private double shortRttNanos;
+    private double baselineRttNanos;
+    private long lastSampleNanos;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, double latencyTolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("limit 범위 오류: min=" + minLimit + ", max=" + maxLimit);
+        }
+
+        this.name = name;
+        this.initialLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = this.initialLimit;
+
+        Metrics.gauge("wless.rule.concurrency.limit", Tags.of("job", name), this, AdaptiveConcurrencyLimiter::getLimit);
+        Metrics.gauge("wless.rule.concurrency.inflight", Tags.of("job", name), this, AdaptiveConcurrencyLimiter::getInFlight);
+    }
+
+    /**
+     * limit / 응답시간 기준선 초기화 (Job 시작 시)
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            limit = initialLimit;
+            shortRttNanos = 0d;
+            baselineRttNanos = 0d;
+            lastSampleNanos = 0L;
+            lastDecreaseNanos = 0L;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        log.info("[ConcurrencyLimiter] {} 초기화: limit={} (min={}, max={})", name, initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * 호출 슬롯 확보 (limit 초과 시 대기)
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= (int) limit) {
+                released.await();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 슬롯 반환 + 응답시간/실패 여부로 limit 조정
+     *
+     * @param rttNanos 호출 소요 시간
+     * @param dropped  RulesException 등 호출 실패 여부
+     */
+    public void release(long rttNanos, boolean dropped) {
+        lock.lock();
+        try {
+            int usedSlots = inFlight;
+            inFlight--;
+
+            int before = (int) limit;
+
+            if (dropped) {
+                decrease(System.nanoTime());
+            } else {
+                onSample(rttNanos, usedSlots);
+            }
+
+            int after = (int) limit;
+            if (after != before) {
+                log.debug("[ConcurrencyLimiter] {} limit {} → {} (shortRtt={}ms, baselineRtt={}ms, dropped={})",
+                    name, before, after,
+                    TimeUnit.NANOSECONDS.toMillis((long) shortRttNanos),
+                    TimeUnit.NANOSECONDS.toMillis((long) baselineRttNanos), dropped);
+            }
+
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSample(long rttNanos, int usedSlots) {
+
+        long now = System.nanoTime();
+
+        if (baselineRttNanos == 0d) {
+            shortRttNanos = rttNanos;
+            baselineRttNanos = rttNanos;
+            lastSampleNanos = now;
+            return;
+        }
+
+        shortRttNanos += SHORT_ALPHA * (rttNanos - shortRttNanos);
+
+        // 기준선: 더 빠른 응답은 즉시 반영, 느린 응답은 경과 시간 비례로 아주 천천히 반영
+        if (rttNanos < baselineRttNanos) {
+            baselineRttNanos = rttNanos;
+        } else {
+            double weight = Math.min(1d, (double) (now - lastSampleNanos) / BASELINE_TAU_NANOS);
+            baselineRttNanos += weight * (rttNanos - baselineRttNanos);
+        }
+        lastSampleNanos = now;
+
+        if (shortRttNanos > baselineRttNanos * latencyTolerance) {
+            // 응답시간 급증 → 클러스터 포화로 판단
+            decrease(now);
+        } else if (usedSlots >= limit * UTILIZATION_FOR_INCREASE) {
+            limit = Math.min(maxLimit, limit + 1d / limit);
+        }
+    }
+
+    private void decrease(long now) {
+        // 직전 감소 후 단기 응답시간 1회 이내면 무시
+        if (now - lastDecreaseNanos < (long) shortRttNanos) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    /**
+     * 현재 허용 동시 호출 수
+     */
+    public double getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 현재 실행 중 호출 수
+     */
+    public double getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,29 @@
+package com.abc.batch.job.test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 결과 임시테이블 적재 방식
+ *
+ * - BatchInsertDao.batchInsert와 같은 인자 / 의미 (컬럼 = 필드명 snake_case, excludeFields 제외, fixedValues 추가)
+ * - fixedValues 값이 "SQL::" 로 시작하면 SQL 식 (예: SQL::now())
+ * - INSERT: batchInsertDao::batchInsert
+ * - JDBC_BATCH: JdbcBatchInsertStrategy (컬럼 / SQL / 접근자 캐시)
+ * - COPY / COPY_BINARY: PgCopyLoadStrategy
+ */
+public interface BulkLoadStrategy {
+
+    enum Mode {
+        INSERT,
+        JDBC_BATCH,
+        COPY,
+        COPY_BINARY
+    }
+
+    /**
+     * @return 적재 건수
+     */
+    <T> int load(String table, List<T> rows, Set<String> excludeFields, Map<String, Object> fixedValues);
+}
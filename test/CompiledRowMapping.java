@@ -0,0 +1,213 @@
+package com.abc.batch.job.test;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import lombok.Getter;
+
+/**
+ * 적재 대상 행의 컬럼 / SQL / 필드 접근자 (클래스, 테이블, excludeFields, fixedValues 형태별 1회 생성 후 재사용)
+ *
+ * - 컬럼: 필드명 snake_case (excludeFields / static 제외, 선언 순서) + fixedValues 키 snake_case (이름 순)
+ * - 접근자: public getter는 LambdaMetafactory로 만든 Function, getter가 없으면 필드 MethodHandle
+ *   → 행 바인딩 시 리플렉션 없음
+ * - INSERT SQL: 필드 / 일반 고정 값은 ?, "SQL::식" 고정 값은 식 그대로
+ * - 같은 SQL 문자열이 모든 배치 / 파티션에서 재사용되므로 커넥션별 서버 prepared statement도 재사용됨
+ *
+ * 고정 값의 "값"은 행마다 같으므로 키에는 형태(일반 값 / SQL 식)만 포함
+ */
+public final class CompiledRowMapping {
+
+    static final String SQL_PREFIX = "SQL::";
+
+    private static final Map<Key, CompiledRowMapping> CACHE = new ConcurrentHashMap<>();
+
+    private final List<Function<Object, Object>> accessors;
+
+    // 필드 컬럼 + 고정 값 컬럼
+    @Getter
+    private final List<String> columns;
+
+    @Getter
+    private final List<String> fixedNames;
+
+    @Getter
+    private final String insertSql;
+
+    // COPY 컬럼 목록 ("a, b, c")
+    @Getter
+    private final String copyColumnList;
+
+    private CompiledRowMapping(Class<?> type, String table, Set<String> excludeFields, Map<String, String> fixedShape) {
+
+        List<String> columns = new ArrayList<>();
+        List<Function<Object, Object>> accessors = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || excludeFields.contains(field.getName())) {
+                continue;
+            }
+            columns.add(toSnakeCase(field.getName()));
+            accessors.add(accessor(type, field));
+        }
+
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            values.append(i > 0 ? ", ?" : "?");
+        }
+        List<String> fixedNames = new ArrayList<>(fixedShape.keySet());
+        for (String name : fixedNames) {
+            columns.add(toSnakeCase(name));
+            String expression = fixedShape.get(name);
+            values.append(values.length() > 0 ? ", " : "").append(expression != null ? expression : "?");
+        }
+
+        this.accessors = accessors;
+        this.columns = Collections.unmodifiableList(columns);
+        this.fixedNames = Collections.unmodifiableList(fixedNames);
+        this.copyColumnList = String.join(", ", columns);
+        this.insertSql = "INSERT INTO " + table + " (" + copyColumnList + ") VALUES (" + values + ")";
+    }
+
+    /**
+     * 캐시된 매핑 (없으면 생성)
+     */
+    public static CompiledRowMapping of(Class<?> type, String table, Set<String> excludeFields,
+                                        Map<String, Object> fixedValues) {
+
+        // 이름 순 정렬 → HashMap 순서와 무관하게 같은 컬럼 순서 / 같은 SQL
+        Map<String, String> fixedShape = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : fixedValues.entrySet()) {
+            fixedShape.put(entry.getKey(), isSqlValue(entry.getValue()) ? sqlExpression((String) entry.getValue()) : null);
+        }
+
+        Key key = new Key(type, table, new TreeSet<>(excludeFields), fixedShape);
+        return CACHE.computeIfAbsent(key, k -> new CompiledRowMapping(type, table, excludeFields, fixedShape));
+    }
+
+    public int fieldCount() {
+        return accessors.size();
+    }
+
+    public Object fieldValue(int index, Object row) {
+        return accessors.get(index).apply(row);
+    }
+
+    static boolean isSqlValue(Object value) {
+        return value instanceof String && ((String) value).startsWith(SQL_PREFIX);
+    }
+
+    static String sqlExpression(String value) {
+        return value.substring(SQL_PREFIX.length());
+    }
+
+    static String toSnakeCase(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 8);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                sb.append('_').append(Character.toLowerCase(c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Function<Object, Object> accessor(Class<?> type, Field field) {
+
+        Method getter = findGetter(type, field);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        try {
+            if (getter != null) {
+                MethodHandle handle = lookup.unreflect(getter);
+                CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    handle.type().wrap());
+                @SuppressWarnings("unchecked")
+                Function<Object, Object> function = (Function<Object, Object>) site.getTarget().invoke();
+                return function;
+            }
+
+            field.setAccessible(true);
+            MethodHandle handle = lookup.unreflectGetter(field)
+                .asType(MethodType.methodType(Object.class, Object.class));
+            return row -> {
+                try {
+                    return handle.invokeExact(row);
+                } catch (Throwable e) {
+                    throw new IllegalStateException("필드 값 조회 실패: " + field, e);
+                }
+            };
+        } catch (Throwable e) {
+            throw new IllegalStateException("필드 접근자 생성 실패: " + type.getName() + "." + field.getName(), e);
+        }
+    }
+
+    private static Method findGetter(Class<?> type, Field field) {
+        String name = field.getName();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String prefix : new String[]{"get", "is"}) {
+            try {
+                Method method = type.getMethod(prefix + suffix);
+                if (method.getReturnType() == field.getType() && Modifier.isPublic(type.getModifiers())) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // 다음 접두어
+            }
+        }
+        return null;
+    }
+
+    private static final class Key {
+
+        private final Class<?> type;
+        private final String table;
+        private final Set<String> excludeFields;
+        private final Map<String, String> fixedShape;
+
+        Key(Class<?> type, String table, Set<String> excludeFields, Map<String, String> fixedShape) {
+            this.type = type;
+            this.table = table;
+            this.excludeFields = excludeFields;
+            this.fixedShape = fixedShape;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return type == other.type && table.equals(other.table)
+                && excludeFields.equals(other.excludeFields) && fixedShape.equals(other.fixedShape);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, table, excludeFields, fixedShape);
+        }
+    }
+}
@@ -0,0 +1,454 @@
+package com.abc.batch.job.test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+import com.abc.batch.domain.PpWlessabcTxnItem;
+import com.abc.batch.domain.RuleWlessChkResltItem;
+import com.abc.batch.mapper.WlessPartiMapper;
+import com.abc.job.util.BatchInsertDao;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 증분 룰 평가 (입력이 바뀐 건만 룰 호출)
+ *
+ * - 건(svcContId) + 룰 코드별로 입력 해시(fingerprint의 MD5)와 룰 버전을 abcBAT.RULE_WLESS_INPUT_HASH에 보관
+ * - 해시 또는 룰 버전이 바뀐 (건, 룰 코드)만 평가, 나머지는 이전 실행 결과를 이월
+ * - 룰 버전은 rule-call-incremental-rule-versions 설정값 (룰 배포 시 올리면 해당 룰 전체 재평가)
+ * - 같은 param1로 재수행하면 이전 결과가 이미 삭제되었으므로 그 해시는 조회에서 제외 (전체 재평가)
+ *
+ * 중복 svcContId:
+ * - 해시 키가 (svcContId, 룰 코드)라 한 실행 대상에 같은 svcContId가 여러 행이면 해시 / 이월이 어느 행 것인지 모호
+ *   (ROW_SEQ는 분할 테이블 행 번호라 실행마다 바뀌고 커서 경로에는 없음 → 실행 간 키로 쓸 수 없음)
+ * - 대상 전체에서 중복인 svcContId는 prepare()에서 조회 (selectRuleTgtDuplicateSvcContIds)
+ *   SELECT SVC_CONT_ID FROM abcBAT.TMP_PP_WLESS_abc_TXN_RULE_TGT GROUP BY SVC_CONT_ID HAVING COUNT(*) > 1
+ * - 중복 건은 항상 전체 룰 평가, 해시는 저장하지 않음 → 이월 / 해시 반영 대상에서 빠지므로 임시테이블 키 중복 없음
+ * - 배치 안 중복 / 이전 해시 중복 행도 같은 방식으로 처리 (조회 이후 대상이 바뀐 경우 방어)
+ *
+ * 처리 순서:
+ * 1. PreStep       : prepare() - 해시 임시테이블 생성, 실행 기준(param1) / 중복 svcContId 보관 (타겟 임시테이블 생성 후)
+ * 2. Slave         : evaluate() - 배치마다 이전 해시 조회 → 바뀐 건만 dispatch → 해시 임시테이블 저장
+ * 3. BrmsInsertStep: merge() - 이월 결과 인서트 + 해시 본 테이블 반영
+ *
+ * - 평가 실패 건은 해시를 남기지 않음 → 다음 실행에서 다시 평가
+ * - 해시 본 테이블은 BrmsInsertStep에서만 갱신 → 실패한 실행의 해시는 반영되지 않음
+ *
+ * 메트릭 (파티션별):
+ * - wless.rule.incremental.rows (result=evaluated / skipped): 룰 호출이 전부 생략된 건 = skipped
+ * - wless.rule.incremental.rules (result=evaluated / skipped): (건, 룰 코드) 단위
+ * - afterJob에서 생략 비율 로그 + JobExecutionContext "ruleIncrementalSkipRatio"
+ */
+@Slf4j
+public class IncrementalRuleEvaluator implements JobExecutionListener {
+
+    // 임시테이블 (PreStep 생성, BrmsInsertStep에서 본 테이블 반영 후 드랍)
+    private static final String HASH_TMP_TABLE = "abcBAT.TMP_RULE_WLESS_INPUT_HASH";
+
+    // 룰 버전 미설정 룰 코드의 버전
+    private static final String DEFAULT_RULE_VERSION = "0";
+
+    private final String name;
+    private final WlessPartiMapper wlessMapper;
+    private final BatchInsertDao batchInsertDao;
+    private final RuleCallScheduler ruleCallScheduler;
+    private final WlessRuleEvaluator ruleEvaluator;
+    private final Map<String, String> ruleVersions;
+
+    private final RuleRequestBinder<PpWlessabcTxnItem> requestBinder = RuleRequestBinder.PP_WLESSABC_TXN;
+
+    private final Map<String, PartitionStats> stats = new ConcurrentHashMap<>();
+
+    // 실행 기준 (PreStep에서 설정)
+    private volatile String param1;
+
+    // 대상 전체에서 중복인 svcContId (PreStep에서 설정, 항상 전체 평가 / 해시 미저장)
+    private volatile Set<String> duplicateSvcContIds = Collections.emptySet();
+
+    public IncrementalRuleEvaluator(String name,
+                                    WlessPartiMapper wlessMapper,
+                                    BatchInsertDao batchInsertDao,
+                                    RuleCallScheduler ruleCallScheduler,
+                                    WlessRuleEvaluator ruleEvaluator,
+                                    Map<String, String> ruleVersions) {
+        this.name = name;
+        this.wlessMapper = wlessMapper;
+        this.batchInsertDao = batchInsertDao;
+        this.ruleCallScheduler = ruleCallScheduler;
+        this.ruleEvaluator = ruleEvaluator;
+        this.ruleVersions = Collections.unmodifiableMap(new HashMap<>(ruleVersions));
+    }
+
+    /**
+     * "R001=3, R002=20261001" 형식 룰 버전 목록 파싱
+     */
+    public static Map<String, String> parseRuleVersions(String versions) {
+
+        Map<String, String> ruleVersions = new HashMap<>();
+
+        for (String entry : RuleCallContext.parseRuleCodes(versions)) {
+            int idx = entry.indexOf('=');
+            if (idx <= 0 || idx == entry.length() - 1) {
+                throw new IllegalArgumentException("룰 버전 형식 오류 (룰코드=버전): " + entry);
+            }
+            ruleVersions.put(entry.substring(0, idx).trim(), entry.substring(idx + 1).trim());
+        }
+
+        return ruleVersions;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        stats.clear();
+        log.info("[IncrementalRuleEvaluator] {} 시작: ruleVersions={}", name, ruleVersions);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+
+        PartitionStats total = new PartitionStats();
+        stats.forEach((partitionKey, partitionStats) -> {
+            log.info("[IncrementalRuleEvaluator] {} Partition {} 생략: {}", name, partitionKey, partitionStats);
+            total.add(partitionStats);
+        });
+
+        log.info("[IncrementalRuleEvaluator] {} 전체 생략: {}", name, total);
+        jobExecution.getExecutionContext().putDouble("ruleIncrementalSkipRatio", total.skippedRowRatio());
+    }
+
+    /**
+     * PreStep: 해시 임시테이블 생성 + 중복 svcContId 조회
+     *
+     * - 타겟 임시테이블(createTmpWlessMabcQatCplyPerpTgtList) 생성 이후에 호출
+     */
+    public void prepare(Map<String, String> jobMap) {
+
+        param1 = jobMap.get("param1");
+
+        log.info("[IncrementalRuleEvaluator] 해시 임시테이블 생성: param1={}", param1);
+        wlessMapper.dropTmpRuleWlessInputHash();
+        wlessMapper.createTmpRuleWlessInputHash();
+
+        duplicateSvcContIds = Collections.unmodifiableSet(new HashSet<>(wlessMapper.selectRuleTgtDuplicateSvcContIds(jobMap)));
+        if (!duplicateSvcContIds.isEmpty()) {
+            log.warn("[IncrementalRuleEvaluator] 중복 svcContId {}건 → 항상 전체 평가, 해시 미저장", duplicateSvcContIds.size());
+        }
+    }
+
+    /**
+     * BrmsInsertStep: 이월 결과 인서트 + 해시 본 테이블 반영
+     *
+     * - 평가 결과 인서트(insertRuleWlessChkReslt) 이후에 호출
+     */
+    public void merge(Map<String, String> srchMap) {
+
+        long startTime = System.currentTimeMillis();
+
+        int carried = wlessMapper.insertRuleWlessChkResltCarryForward(srchMap);
+        int merged = wlessMapper.mergeRuleWlessInputHash(srchMap);
+        wlessMapper.dropTmpRuleWlessInputHash();
+
+        log.info("[IncrementalRuleEvaluator] 이월 결과 {}건, 해시 반영 {}건 ({}ms)",
+            carried, merged, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 배치 평가 (바뀐 건 / 룰 코드만 RuleCallScheduler로 dispatch)
+     *
+     * - 평가할 룰 코드 조합별로 묶어서 dispatch (보통 "전체" 또는 버전이 바뀐 룰 코드 1개)
+     * - 반환값은 이번에 평가한 결과만 포함 (이월 결과는 merge()에서 SQL로 복사)
+     * - timeout은 evaluate 호출 전체 기한 (조합별 dispatch는 남은 시간만 사용)
+     */
+    public List<RuleWlessChkResltItem> evaluate(List<PpWlessabcTxnItem> batch,
+                                                RuleCallContext context,
+                                                long timeout,
+                                                TimeUnit unit) throws Exception {
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        List<String> ruleCodes = context.getRuleCodes();
+        String partitionKey = context.getPartitionKey();
+
+        // 중복 svcContId (대상 전체 + 배치 안)
+        Set<String> duplicates = new HashSet<>();
+        Set<String> seen = new HashSet<>(batch.size() * 2);
+        for (PpWlessabcTxnItem item : batch) {
+            if (!seen.add(item.getSvcContId()) || duplicateSvcContIds.contains(item.getSvcContId())) {
+                duplicates.add(item.getSvcContId());
+            }
+        }
+
+        MessageDigest md5 = newDigest();
+        Map<PpWlessabcTxnItem, String> inputHashes = new IdentityHashMap<>();
+        List<String> svcContIds = new ArrayList<>(batch.size());
+        for (PpWlessabcTxnItem item : batch) {
+            if (duplicates.contains(item.getSvcContId())) {
+                continue;
+            }
+            inputHashes.put(item, inputHash(md5, item));
+            svcContIds.add(item.getSvcContId());
+        }
+
+        Map<String, RuleInputHashItem> previous = svcContIds.isEmpty()
+            ? Collections.emptyMap()
+            : loadPrevious(svcContIds, ruleCodes);
+
+        // 평가할 룰 코드 조합 → 건 목록
+        Map<List<String>, List<PpWlessabcTxnItem>> groups = new LinkedHashMap<>();
+        long staleRules = 0;
+
+        for (PpWlessabcTxnItem item : batch) {
+            if (duplicates.contains(item.getSvcContId())) {
+                staleRules += ruleCodes.size();
+                groups.computeIfAbsent(ruleCodes, k -> new ArrayList<>()).add(item);
+                continue;
+            }
+            List<String> staleCodes = new ArrayList<>(ruleCodes.size());
+            for (String ruleCode : ruleCodes) {
+                RuleInputHashItem prev = previous.get(hashKey(item.getSvcContId(), ruleCode));
+                if (prev == null
+                        || !inputHashes.get(item).equals(prev.getInputHash())
+                        || !ruleVersion(ruleCode).equals(prev.getRuleVer())) {
+                    staleCodes.add(ruleCode);
+                }
+            }
+            staleRules += staleCodes.size();
+            groups.computeIfAbsent(staleCodes, k -> new ArrayList<>()).add(item);
+        }
+
+        Set<PpWlessabcTxnItem> succeeded = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        List<RuleWlessChkResltItem> results = new ArrayList<>();
+        int skippedRows = 0;
+
+        for (Map.Entry<List<String>, List<PpWlessabcTxnItem>> group : groups.entrySet()) {
+
+            if (group.getKey().isEmpty()) {
+                skippedRows = group.getValue().size();
+                succeeded.addAll(group.getValue());
+                continue;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException("증분 평가 기한 초과: 남은 조합 포함 " + batch.size() + "건");
+            }
+
+            RuleCallContext groupContext = context.withRuleCodes(group.getKey());
+
+            results.addAll(ruleCallScheduler.<PpWlessabcTxnItem, RuleWlessChkResltItem>dispatch(partitionKey,
+                group.getValue(),
+                PpWlessabcTxnItem::getSvcContId,
+                (subBatch, failures) -> evaluateTracked(subBatch, groupContext, failures, succeeded),
+                remaining, TimeUnit.NANOSECONDS));
+        }
+
+        saveHashes(groups, inputHashes, succeeded, ruleCodes);
+
+        statsFor(partitionKey).record(batch.size() - skippedRows, skippedRows,
+            staleRules, (long) batch.size() * ruleCodes.size() - staleRules);
+
+        log.debug("[Partition {}] 증분 평가: {}건 중 {}건 생략 (중복 svcContId {}건)",
+            partitionKey, batch.size(), skippedRows, duplicates.size());
+
+        return results;
+    }
+
+    /**
+     * 평가 후 성공 건 기록 (재시도 끝에 성공한 건도 포함)
+     */
+    private List<RuleWlessChkResltItem> evaluateTracked(List<PpWlessabcTxnItem> subBatch,
+                                                        RuleCallContext context,
+                                                        RuleCallScheduler.ItemFailureHandler<PpWlessabcTxnItem> failures,
+                                                        Set<PpWlessabcTxnItem> succeeded) throws Exception {
+
+        Set<PpWlessabcTxnItem> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        List<RuleWlessChkResltItem> results = ruleEvaluator.evaluateBatch(subBatch, context, (item, cause) -> {
+            failed.add(item);
+            failures.failed(item, cause);
+        });
+
+        for (PpWlessabcTxnItem item : subBatch) {
+            if (!failed.contains(item)) {
+                succeeded.add(item);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * 이전 해시 조회 (svcContId + 룰 코드 → 해시)
+     *
+     * - 같은 키가 여러 행이면 어느 행 것인지 알 수 없으므로 null로 두어 재평가
+     */
+    private Map<String, RuleInputHashItem> loadPrevious(List<String> svcContIds, List<String> ruleCodes) {
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("svcContIds", svcContIds);
+        params.put("ruleCodes", ruleCodes);
+        params.put("param1", param1);
+
+        List<RuleInputHashItem> rows = wlessMapper.selectRuleWlessInputHash(params);
+
+        Map<String, RuleInputHashItem> previous = new HashMap<>(rows.size() * 2);
+        for (RuleInputHashItem row : rows) {
+            String key = hashKey(row.getSvcContId(), row.getRuleCd());
+            if (previous.containsKey(key)) {
+                log.warn("[IncrementalRuleEvaluator] 이전 해시 중복 행 → 재평가: {}", key);
+                previous.put(key, null);
+                continue;
+            }
+            previous.put(key, row);
+        }
+        return previous;
+    }
+
+    /**
+     * 해시 임시테이블 저장 (평가 성공 건 = Y, 이월 건 = N)
+     *
+     * - 중복 svcContId 건은 inputHashes에 없으므로 저장하지 않음 (이월 / 해시 반영 제외)
+     */
+    private void saveHashes(Map<List<String>, List<PpWlessabcTxnItem>> groups,
+                            Map<PpWlessabcTxnItem, String> inputHashes,
+                            Set<PpWlessabcTxnItem> succeeded,
+                            List<String> ruleCodes) {
+
+        List<RuleInputHashItem> rows = new ArrayList<>(inputHashes.size() * ruleCodes.size());
+
+        groups.forEach((staleCodes, items) -> {
+            for (PpWlessabcTxnItem item : items) {
+                if (!succeeded.contains(item) || !inputHashes.containsKey(item)) {
+                    continue;
+                }
+                for (String ruleCode : ruleCodes) {
+                    rows.add(new RuleInputHashItem(item.getSvcContId(), ruleCode, inputHashes.get(item),
+                        ruleVersion(ruleCode), staleCodes.contains(ruleCode) ? "Y" : "N"));
+                }
+            }
+        });
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        batchInsertDao.batchInsert(
+            HASH_TMP_TABLE,
+            rows,
+            Set.of("serialVersionUID", "resltParam1"),
+            new HashMap<>()
+        );
+    }
+
+    private String inputHash(MessageDigest md5, PpWlessabcTxnItem item) {
+
+        byte[] digest = md5.digest(requestBinder.fingerprint(item).getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder sb = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private String ruleVersion(String ruleCode) {
+        return ruleVersions.getOrDefault(ruleCode, DEFAULT_RULE_VERSION);
+    }
+
+    private static String hashKey(String svcContId, String ruleCode) {
+        return svcContId + '|' + ruleCode;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PartitionStats statsFor(String partitionKey) {
+        return stats.computeIfAbsent(partitionKey, key -> new PartitionStats(name, key));
+    }
+
+    /**
+     * 파티션별 평가 / 생략 건수
+     */
+    private static class PartitionStats {
+
+        private final AtomicLong evaluatedRows = new AtomicLong();
+        private final AtomicLong skippedRows = new AtomicLong();
+        private final AtomicLong evaluatedRules = new AtomicLong();
+        private final AtomicLong skippedRules = new AtomicLong();
+
+        private final Counter evaluatedRowCounter;
+        private final Counter skippedRowCounter;
+        private final Counter evaluatedRuleCounter;
+        private final Counter skippedRuleCounter;
+
+        // 합계용 (메트릭 없음)
+        PartitionStats() {
+            this.evaluatedRowCounter = null;
+            this.skippedRowCounter = null;
+            this.evaluatedRuleCounter = null;
+            this.skippedRuleCounter = null;
+        }
+
+        PartitionStats(String job, String partitionKey) {
+            this.evaluatedRowCounter = Metrics.counter("wless.rule.incremental.rows", "job", job, "partition", partitionKey, "result", "evaluated");
+            this.skippedRowCounter = Metrics.counter("wless.rule.incremental.rows", "job", job, "partition", partitionKey, "result", "skipped");
+            this.evaluatedRuleCounter = Metrics.counter("wless.rule.incremental.rules", "job", job, "partition", partitionKey, "result", "evaluated");
+            this.skippedRuleCounter = Metrics.counter("wless.rule.incremental.rules", "job", job, "partition", partitionKey, "result", "skipped");
+        }
+
+        void record(long rowsEvaluated, long rowsSkipped, long rulesEvaluated, long rulesSkipped) {
+            evaluatedRows.addAndGet(rowsEvaluated);
+            skippedRows.addAndGet(rowsSkipped);
+            evaluatedRules.addAndGet(rulesEvaluated);
+            skippedRules.addAndGet(rulesSkipped);
+
+            if (evaluatedRowCounter != null) {
+                evaluatedRowCounter.increment(rowsEvaluated);
+                skippedRowCounter.increment(rowsSkipped);
+                evaluatedRuleCounter.increment(rulesEvaluated);
+                skippedRuleCounter.increment(rulesSkipped);
+            }
+        }
+
+        void add(PartitionStats other) {
+            record(other.evaluatedRows.get(), other.skippedRows.get(), other.evaluatedRules.get(), other.skippedRules.get());
+        }
+
+        double skippedRowRatio() {
+            long total = evaluatedRows.get() + skippedRows.get();
+            return total == 0 ? 0d : (double) skippedRows.get() / total;
+        }
+
+        @Override
+        public String toString() {
+            long rules = evaluatedRules.get() + skippedRules.get();
+            return String.format("건 %.1f%% (%d / %d), 룰 호출 %.1f%% (%d / %d)",
+                skippedRowRatio() * 100d, skippedRows.get(), evaluatedRows.get() + skippedRows.get(),
+                rules == 0 ? 0d : skippedRules.get() * 100d / rules, skippedRules.get(), rules);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.abc.batch.job.test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JDBC 배치 INSERT 적재 (BatchInsertDao.batchInsert와 같은 의미, 컬럼 / SQL / 접근자는 CompiledRowMapping 캐시 사용)
+ *
+ * - 호출마다 필드 조회 / SQL 생성 없음, 행 바인딩은 컴파일된 접근자로 수행
+ * - 모든 배치 / 파티션이 같은 SQL 문자열 사용 → 커넥션별 서버 prepared statement 재사용
+ *   (pgjdbc prepareThreshold 이후, reWriteBatchedInserts=true면 다중 VALUES로 전송)
+ * - 커넥션은 DataSourceUtils로 획득 → Step 트랜잭션이 있으면 같은 트랜잭션에서 적재
+ */
+@Slf4j
+public class JdbcBatchInsertStrategy implements BulkLoadStrategy {
+
+    private final DataSource dataSource;
+
+    public JdbcBatchInsertStrategy(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public <T> int load(String table, List<T> rows, Set<String> excludeFields, Map<String, Object> fixedValues) {
+
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        CompiledRowMapping mapping = CompiledRowMapping.of(rows.get(0).getClass(), table, excludeFields, fixedValues);
+        int fieldCount = mapping.fieldCount();
+
+        Connection conn = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement ps = conn.prepareStatement(mapping.getInsertSql())) {
+
+            // 일반 고정 값은 행마다 같은 값을 필드 뒤에 바인딩 (SQL:: 값은 SQL에 포함)
+            int parameter = fieldCount + 1;
+            for (String name : mapping.getFixedNames()) {
+                Object value = fixedValues.get(name);
+                if (!CompiledRowMapping.isSqlValue(value)) {
+                    ps.setObject(parameter++, value);
+                }
+            }
+
+            for (T row : rows) {
+                for (int i = 0; i < fieldCount; i++) {
+                    ps.setObject(i + 1, mapping.fieldValue(i, row));
+                }
+                ps.addBatch();
+            }
+
+            // 실패 시 BatchUpdateException (reWriteBatchedInserts면 건별 결과는 SUCCESS_NO_INFO)
+            ps.executeBatch();
+
+            log.debug("[JdbcBatchInsertStrategy] {} {}건 적재", table, rows.size());
+            return rows.size();
+
+        } catch (SQLException e) {
+            throw new IllegalStateException("[JdbcBatchInsertStrategy] " + table + " INSERT 실패: " + rows.size() + "건", e);
+        } finally {
+            DataSourceUtils.releaseConnection(conn, dataSource);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.abc.batch.job.test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keyset(seek) 페이징 Reader (MyBatisPagingItemReader의 LIMIT/OFFSET 대체)
+ *
+ * - 다음 페이지는 "key > 직전 페이지 마지막 key ORDER BY key LIMIT pageSize"로 조회 (key는 복합 key 가능)
+ *   → OFFSET만큼 읽고 버리는 비용이 없어 첫 페이지와 마지막 페이지 지연이 같음
+ *   → 조회 중 앞쪽 행이 추가 / 삭제되어도 건너뛰거나 중복 읽지 않음
+ * - 쿼리 파라미터: parameterValues + lastKey (첫 페이지는 null) + pageSize
+ * - key는 파티션 안에서 유일해야 함 → svcContId만으로는 중복이 있으므로 SvcContKey(svcContId + ROW_SEQ) 사용
+ *   (같은 key가 페이지 안에 있으면 순서 오류, 페이지 경계에 걸치면 "> lastKey"로 누락되기 때문)
+ * - Java 비교 순서와 쿼리 ORDER BY 순서가 같아야 함 (문자열 key는 COLLATE "C")
+ *
+ * 재시작:
+ * - update()에서 마지막으로 read()한 건의 key(문자열) / 읽은 건수를 ExecutionContext에 저장
+ *   (청크 커밋 시점 = 쓰기까지 끝난 마지막 건)
+ * - open()에서 저장된 key가 있으면 keyParser로 복원해 그 다음 key부터 조회
+ *
+ * 쿼리 예 (mapper XML, SvcContKey):
+ *   ... AND (SVC_CONT_ID COLLATE "C", ROW_SEQ) &gt; (#{lastKey.svcContId}, #{lastKey.rowSeq}) (lastKey != null 일 때)
+ *   ORDER BY SVC_CONT_ID COLLATE "C", ROW_SEQ LIMIT #{pageSize}
+ */
+@Slf4j
+public class KeysetPagingItemReader<T, K extends Comparable<? super K> & Serializable> implements ItemStreamReader<T> {
+
+    private static final String LAST_KEY = "lastKey";
+    private static final String READ_COUNT = "readCount";
+
+    private final String name;
+    private final SqlSessionTemplate sqlSessionTemplate;
+    private final String queryId;
+    private final Map<String, Object> parameterValues;
+    private final int pageSize;
+    private final Function<T, K> keyExtractor;
+    private final Function<String, K> keyParser;
+
+    private Iterator<T> page;
+    private boolean lastPage;
+    private K pageLastKey;
+
+    private K lastReadKey;
+    private long readCount;
+    private int pageCount;
+
+    public KeysetPagingItemReader(String name, SqlSessionFactory sqlSessionFactory, String queryId,
+                                  Map<String, Object> parameterValues, int pageSize,
+                                  Function<T, K> keyExtractor, Function<String, K> keyParser) {
+
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize는 1 이상: " + pageSize);
+        }
+
+        this.name = name;
+        this.sqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory);
+        this.queryId = queryId;
+        this.parameterValues = parameterValues;
+        this.pageSize = pageSize;
+        this.keyExtractor = keyExtractor;
+        this.keyParser = keyParser;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+
+        String savedKey = executionContext.getString(contextKey(LAST_KEY), null);
+        lastReadKey = savedKey != null ? keyParser.apply(savedKey) : null;
+        readCount = executionContext.getLong(contextKey(READ_COUNT), 0L);
+        pageLastKey = lastReadKey;
+        page = null;
+        lastPage = false;
+        pageCount = 0;
+
+        if (lastReadKey != null) {
+            log.info("[KeysetPagingItemReader] {} 재시작: lastKey={}, 기존 읽은 건수={}", name, lastReadKey, readCount);
+        }
+    }
+
+    @Override
+    public T read() {
+
+        if (page == null || !page.hasNext()) {
+            if (lastPage) {
+                return null;
+            }
+            fetchNextPage();
+            if (!page.hasNext()) {
+                return null;
+            }
+        }
+
+        T item = page.next();
+        lastReadKey = keyExtractor.apply(item);
+        readCount++;
+        return item;
+    }
+
+    private void fetchNextPage() {
+
+        Map<String, Object> params = new HashMap<>(parameterValues);
+        params.put(LAST_KEY, pageLastKey);
+        params.put("pageSize", pageSize);
+
+        long start = System.currentTimeMillis();
+        List<T> rows = new ArrayList<>(sqlSessionTemplate.<T>selectList(queryId, params));
+        long elapsed = System.currentTimeMillis() - start;
+
+        for (T row : rows) {
+            K key = keyExtractor.apply(row);
+            if (key == null || (pageLastKey != null && key.compareTo(pageLastKey) <= 0)) {
+                // 정렬 / 조건이 key와 맞지 않으면 누락이나 무한 반복이 생기므로 즉시 중단
+                throw new IllegalStateException("[KeysetPagingItemReader] " + name + " key 순서 오류 (" + queryId
+                    + " ORDER BY / lastKey 조건 확인): 직전 key=" + pageLastKey + ", 조회 key=" + key);
+            }
+            pageLastKey = key;
+        }
+
+        pageCount++;
+        lastPage = rows.size() < pageSize;
+        page = rows.iterator();
+
+        log.debug("[KeysetPagingItemReader] {} page {}: {}건, {}ms, lastKey={}", name, pageCount, rows.size(), elapsed, pageLastKey);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (lastReadKey != null) {
+            executionContext.putString(contextKey(LAST_KEY), lastReadKey.toString());
+        }
+        executionContext.putLong(contextKey(READ_COUNT), readCount);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        log.info("[KeysetPagingItemReader] {} 종료: 읽은 건수={}, 페이지={}, lastKey={}", name, readCount, pageCount, lastReadKey);
+        page = null;
+    }
+
+    private String contextKey(String key) {
+        return name + "." + key;
+    }
+}
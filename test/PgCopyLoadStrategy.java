@@ -0,0 +1,483 @@
+package com.abc.batch.job.test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PostgreSQL COPY ... FROM STDIN 적재 (BatchInsertDao INSERT 배치 대체)
+ *
+ * - 행을 버퍼(COPY_BUFFER_BYTES) 단위로 바로 전송 (INSERT 문 생성 / 파라미터 바인딩 없음)
+ * - 커넥션은 DataSourceUtils로 획득 → Step 트랜잭션이 있으면 같은 트랜잭션에서 적재
+ * - 컬럼 / 필드 접근자: CompiledRowMapping (클래스, 테이블별 1회 생성, 행마다 리플렉션 없음)
+ * - fixedValues "SQL::식": 적재 직전 같은 커넥션에서 1회 평가 후 모든 행에 같은 값
+ *   (now()는 트랜잭션 시작 시각이므로 트랜잭션 안에서는 INSERT와 같은 값)
+ *
+ * text / binary:
+ * - text  : 값의 문자열 표현 (\N = null), 컬럼 타입 변환은 서버가 수행
+ * - binary: 컬럼 타입별 바이너리 인코딩 (문자열 파싱 없음)
+ *   지원 타입 - text / varchar / bpchar / int2 / int4 / int8 / float4 / float8 / numeric / bool / date / timestamp / timestamptz
+ *   SQL:: 값은 컬럼 타입의 send 함수 결과(bytea)를 그대로 사용
+ */
+@Slf4j
+public class PgCopyLoadStrategy implements BulkLoadStrategy {
+
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    private static final byte[] BINARY_SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final LocalDateTime PG_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final Instant PG_EPOCH_INSTANT = PG_EPOCH.toInstant(ZoneOffset.UTC);
+
+    private static final short NUMERIC_POS = 0x0000;
+    private static final short NUMERIC_NEG = 0x4000;
+
+    private final DataSource dataSource;
+    private final boolean binary;
+
+    // 테이블 → 컬럼명 → 타입 (binary 모드)
+    private final Map<String, Map<String, PgType>> columnTypes = new ConcurrentHashMap<>();
+
+    public PgCopyLoadStrategy(DataSource dataSource, boolean binary) {
+        this.dataSource = dataSource;
+        this.binary = binary;
+    }
+
+    @Override
+    public <T> int load(String table, List<T> rows, Set<String> excludeFields, Map<String, Object> fixedValues) {
+
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        CompiledRowMapping mapping = CompiledRowMapping.of(rows.get(0).getClass(), table, excludeFields, fixedValues);
+
+        String sql = "COPY " + table + " (" + mapping.getCopyColumnList() + ") FROM STDIN"
+            + (binary ? " WITH (FORMAT binary)" : "");
+
+        Connection conn = DataSourceUtils.getConnection(dataSource);
+        try {
+            PGConnection pgConn = conn.unwrap(PGConnection.class);
+
+            long copied;
+            if (binary) {
+                copied = copyBinary(conn, pgConn, sql, table, rows, mapping, fixedValues);
+            } else {
+                copied = copyText(conn, pgConn, sql, rows, mapping, fixedValues);
+            }
+
+            log.debug("[PgCopyLoadStrategy] {} {}건 적재 ({})", table, copied, binary ? "binary" : "text");
+            return (int) copied;
+
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("[PgCopyLoadStrategy] " + table + " COPY 적재 실패: " + rows.size() + "건", e);
+        } finally {
+            DataSourceUtils.releaseConnection(conn, dataSource);
+        }
+    }
+
+    private <T> long copyText(Connection conn, PGConnection pgConn, String sql, List<T> rows, CompiledRowMapping mapping,
+                              Map<String, Object> fixedValues) throws SQLException, IOException {
+
+        int fieldCount = mapping.fieldCount();
+        List<String> fixedNames = mapping.getFixedNames();
+
+        // 고정 값은 행마다 같으므로 한 번만 직렬화
+        StringBuilder fixed = new StringBuilder();
+        List<String> sqlTexts = evaluateSqlValuesAsText(conn, fixedNames, fixedValues);
+        for (int i = 0; i < fixedNames.size(); i++) {
+            Object value = fixedValues.get(fixedNames.get(i));
+            fixed.append(fieldCount == 0 && i == 0 ? "" : "\t");
+            appendText(fixed, CompiledRowMapping.isSqlValue(value) ? sqlTexts.get(i) : value);
+        }
+        String fixedSuffix = fixed.append('\n').toString();
+
+        PGCopyOutputStream out = new PGCopyOutputStream(pgConn, sql, COPY_BUFFER_BYTES);
+        try {
+            StringBuilder line = new StringBuilder(256);
+            for (T row : rows) {
+                line.setLength(0);
+                for (int i = 0; i < fieldCount; i++) {
+                    if (i > 0) {
+                        line.append('\t');
+                    }
+                    appendText(line, mapping.fieldValue(i, row));
+                }
+                line.append(fixedSuffix);
+                out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            return out.endCopy();
+        } catch (SQLException | IOException | RuntimeException e) {
+            cancelQuietly(out);
+            throw e;
+        }
+    }
+
+    private <T> long copyBinary(Connection conn, PGConnection pgConn, String sql, String table, List<T> rows,
+                                CompiledRowMapping mapping, Map<String, Object> fixedValues) throws SQLException, IOException {
+
+        Map<String, PgType> types = columnTypes(conn, table);
+        List<String> columns = mapping.getColumns();
+        List<String> fixedNames = mapping.getFixedNames();
+        int fieldCount = mapping.fieldCount();
+
+        PgType[] fieldTypes = new PgType[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fieldTypes[i] = requireType(types, table, columns.get(i));
+        }
+
+        // 고정 값 인코딩 (SQL:: 값은 서버의 send 함수로 인코딩)
+        List<byte[]> fixedBytes = new ArrayList<>(fixedNames.size());
+        for (int i = 0; i < fixedNames.size(); i++) {
+            PgType type = requireType(types, table, columns.get(fieldCount + i));
+            Object value = fixedValues.get(fixedNames.get(i));
+            fixedBytes.add(CompiledRowMapping.isSqlValue(value)
+                ? evaluateSqlValueAsBinary(conn, (String) value, type)
+                : encode(type, value));
+        }
+
+        PGCopyOutputStream copy = new PGCopyOutputStream(pgConn, sql, COPY_BUFFER_BYTES);
+        try {
+            DataOutputStream out = new DataOutputStream(copy);
+            out.write(BINARY_SIGNATURE);
+            out.writeInt(0);
+            out.writeInt(0);
+
+            short columnCount = (short) columns.size();
+            for (T row : rows) {
+                out.writeShort(columnCount);
+                for (int i = 0; i < fieldCount; i++) {
+                    writeBinaryField(out, encode(fieldTypes[i], mapping.fieldValue(i, row)));
+                }
+                for (byte[] bytes : fixedBytes) {
+                    writeBinaryField(out, bytes);
+                }
+            }
+            out.writeShort(-1);
+            out.flush();
+            return copy.endCopy();
+        } catch (SQLException | IOException | RuntimeException e) {
+            cancelQuietly(copy);
+            throw e;
+        }
+    }
+
+    private static void cancelQuietly(PGCopyOutputStream out) {
+        try {
+            if (out.isActive()) {
+                out.cancelCopy();
+            }
+        } catch (SQLException e) {
+            log.warn("[PgCopyLoadStrategy] COPY 취소 실패", e);
+        }
+    }
+
+    // ---------------------------------------------------------------- text
+
+    private static void appendText(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("\\N");
+            return;
+        }
+        String text = value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\': sb.append("\\\\"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                default: sb.append(c);
+            }
+        }
+    }
+
+    private static List<String> evaluateSqlValuesAsText(Connection conn, List<String> fixedNames,
+                                                        Map<String, Object> fixedValues) throws SQLException {
+
+        List<String> expressions = new ArrayList<>();
+        for (String name : fixedNames) {
+            Object value = fixedValues.get(name);
+            if (CompiledRowMapping.isSqlValue(value)) {
+                expressions.add("(" + CompiledRowMapping.sqlExpression((String) value) + ")::text");
+            }
+        }
+
+        List<String> texts = new ArrayList<>(fixedNames.size());
+        if (expressions.isEmpty()) {
+            return texts;
+        }
+
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT " + String.join(", ", expressions))) {
+            rs.next();
+            int column = 1;
+            for (String name : fixedNames) {
+                texts.add(CompiledRowMapping.isSqlValue(fixedValues.get(name)) ? rs.getString(column++) : null);
+            }
+        }
+        return texts;
+    }
+
+    // ---------------------------------------------------------------- binary
+
+    private Map<String, PgType> columnTypes(Connection conn, String table) throws SQLException {
+
+        Map<String, PgType> types = columnTypes.get(table);
+        if (types != null) {
+            return types;
+        }
+
+        types = new HashMap<>();
+        String sql = "SELECT a.attname, t.typname, t.typsend::text, format_type(a.atttypid, a.atttypmod)"
+            + " FROM pg_attribute a JOIN pg_type t ON t.oid = a.atttypid"
+            + " WHERE a.attrelid = ?::regclass AND a.attnum > 0 AND NOT a.attisdropped";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    types.put(rs.getString(1), new PgType(rs.getString(2), rs.getString(3), rs.getString(4)));
+                }
+            }
+        }
+
+        columnTypes.put(table, types);
+        return types;
+    }
+
+    private static PgType requireType(Map<String, PgType> types, String table, String column) {
+        PgType type = types.get(column);
+        if (type == null) {
+            throw new IllegalStateException("[PgCopyLoadStrategy] " + table + "에 컬럼 없음: " + column);
+        }
+        return type;
+    }
+
+    private static byte[] evaluateSqlValueAsBinary(Connection conn, String value, PgType type) throws SQLException {
+        String sql = "SELECT " + type.sendFunction + "((" + CompiledRowMapping.sqlExpression(value) + ")::" + type.formatted + ")";
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getBytes(1);
+        }
+    }
+
+    private static void writeBinaryField(DataOutputStream out, byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static byte[] encode(PgType type, Object value) {
+
+        if (value == null) {
+            return null;
+        }
+
+        switch (type.name) {
+            case "text":
+            case "varchar":
+            case "bpchar":
+                return value.toString().getBytes(StandardCharsets.UTF_8);
+            case "int2":
+                return new byte[]{(byte) (toLong(value) >> 8), (byte) toLong(value)};
+            case "int4":
+                return intBytes((int) toLong(value));
+            case "int8":
+                return longBytes(toLong(value));
+            case "float4":
+                return intBytes(Float.floatToIntBits(toBigDecimal(value).floatValue()));
+            case "float8":
+                return longBytes(Double.doubleToLongBits(toBigDecimal(value).doubleValue()));
+            case "numeric":
+                return numericBytes(toBigDecimal(value));
+            case "bool":
+                return new byte[]{(byte) (toBoolean(value) ? 1 : 0)};
+            case "date":
+                return intBytes((int) ChronoUnit.DAYS.between(PG_EPOCH.toLocalDate(), toLocalDate(value)));
+            case "timestamp":
+                return longBytes(ChronoUnit.MICROS.between(PG_EPOCH, toLocalDateTime(value)));
+            case "timestamptz":
+                return longBytes(ChronoUnit.MICROS.between(PG_EPOCH_INSTANT, toInstant(value)));
+            default:
+                throw new IllegalStateException("[PgCopyLoadStrategy] binary COPY 미지원 타입: " + type.formatted
+                    + " (result-load-mode=COPY 사용)");
+        }
+    }
+
+    private static byte[] intBytes(int v) {
+        return new byte[]{(byte) (v >> 24), (byte) (v >> 16), (byte) (v >> 8), (byte) v};
+    }
+
+    private static byte[] longBytes(long v) {
+        byte[] bytes = new byte[8];
+        for (int i = 7; i >= 0; i--) {
+            bytes[i] = (byte) v;
+            v >>= 8;
+        }
+        return bytes;
+    }
+
+    /**
+     * numeric 바이너리 형식: ndigits, weight, sign, dscale (int16) + 10000진수 자리 (int16)
+     */
+    static byte[] numericBytes(BigDecimal value) {
+
+        BigDecimal abs = value.abs();
+        if (abs.scale() < 0) {
+            abs = abs.setScale(0);
+        }
+        short dscale = (short) abs.scale();
+
+        String plain = abs.toPlainString();
+        int dot = plain.indexOf('.');
+        String intPart = dot < 0 ? plain : plain.substring(0, dot);
+        String fracPart = dot < 0 ? "" : plain.substring(dot + 1);
+
+        StringBuilder padded = new StringBuilder();
+        for (int i = (4 - intPart.length() % 4) % 4; i > 0; i--) {
+            padded.append('0');
+        }
+        padded.append(intPart);
+        int intGroups = padded.length() / 4;
+        padded.append(fracPart);
+        for (int i = (4 - fracPart.length() % 4) % 4; i > 0; i--) {
+            padded.append('0');
+        }
+
+        List<Short> digits = new ArrayList<>(padded.length() / 4);
+        for (int i = 0; i < padded.length(); i += 4) {
+            digits.add(Short.parseShort(padded.substring(i, i + 4)));
+        }
+
+        int weight = intGroups - 1;
+        while (!digits.isEmpty() && digits.get(0) == 0) {
+            digits.remove(0);
+            weight--;
+        }
+        while (!digits.isEmpty() && digits.get(digits.size() - 1) == 0) {
+            digits.remove(digits.size() - 1);
+        }
+        if (digits.isEmpty()) {
+            weight = 0;
+        }
+
+        byte[] bytes = new byte[8 + digits.size() * 2];
+        putShort(bytes, 0, (short) digits.size());
+        putShort(bytes, 2, (short) weight);
+        putShort(bytes, 4, value.signum() < 0 ? NUMERIC_NEG : NUMERIC_POS);
+        putShort(bytes, 6, dscale);
+        for (int i = 0; i < digits.size(); i++) {
+            putShort(bytes, 8 + i * 2, digits.get(i));
+        }
+        return bytes;
+    }
+
+    private static void putShort(byte[] bytes, int offset, short v) {
+        bytes[offset] = (byte) (v >> 8);
+        bytes[offset + 1] = (byte) v;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString().trim());
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        String text = value.toString().trim();
+        return "Y".equalsIgnoreCase(text) || "true".equalsIgnoreCase(text) || "1".equals(text);
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate();
+        }
+        return toLocalDateTime(value).toLocalDate();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        if (value instanceof java.util.Date) {
+            return new Timestamp(((java.util.Date) value).getTime()).toLocalDateTime();
+        }
+        throw new IllegalStateException("[PgCopyLoadStrategy] 날짜 / 시각 값 아님: " + value.getClass().getName()
+            + " (result-load-mode=COPY 사용)");
+    }
+
+    private static Instant toInstant(Object value) {
+        if (value instanceof Instant) {
+            return (Instant) value;
+        }
+        if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).toInstant();
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toInstant();
+        }
+        if (value instanceof java.util.Date) {
+            return Instant.ofEpochMilli(((java.util.Date) value).getTime());
+        }
+        throw new IllegalStateException("[PgCopyLoadStrategy] 시각 값 아님: " + value.getClass().getName()
+            + " (result-load-mode=COPY 사용)");
+    }
+
+    static final class PgType {
+
+        final String name;
+        final String sendFunction;
+        final String formatted;
+
+        PgType(String name, String sendFunction, String formatted) {
+            this.name = name;
+            this.sendFunction = sendFunction;
+            this.formatted = formatted;
+        }
+    }
+}
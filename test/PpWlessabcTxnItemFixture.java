@@ -0,0 +1,39 @@
+package com.abc.batch.job.test;
+
+import java.math.BigDecimal;
+
+import com.abc.batch.domain.PpWlessabcTxnItem;
+
+/**
+ * 테스트 / 벤치마크 공통 입력 건 (운영 데이터 형태를 흉내 낸 고정 값, 룰 바인딩 항목 전체 채움)
+ *
+ * - WlessRuleEvaluatorBulkTest / RuleCallSchedulerBenchmark / jmh.BenchmarkFixtures에서 사용
+ * - seq로 값이 정해짐 (같은 seq면 같은 입력), svcContId만 호출부에서 지정
+ */
+public final class PpWlessabcTxnItemFixture {
+
+    private PpWlessabcTxnItemFixture() {
+    }
+
+    public static PpWlessabcTxnItem of(String svcContId, int seq) {
+        PpWlessabcTxnItem item = new PpWlessabcTxnItem();
+        item.setBaseDate("20261017");
+        item.setWrkjobYm("202610");
+        item.setBaseYm("202609");
+        item.setSvcContId(svcContId);
+        item.setEvOccDt("20261016");
+        item.setSbscDivCd("01");
+        item.setSvcContDivCd("W");
+        item.setWrkjobScope("ALL");
+        item.setAdmOrgId("ORG" + (seq % 200));
+        item.setCpntId("CP" + (seq % 3000));
+        item.setSameNflVqntCircuitCnt(BigDecimal.valueOf(seq % 5));
+        item.setSameNflMyshVqntCircuitCnt(BigDecimal.valueOf(seq % 3));
+        item.setCustBthdayDate("19850101");
+        item.setCrcltShoNflrYn(seq % 2 == 0 ? "Y" : "N");
+        item.setNewIcgDt("20250301");
+        item.setNpayTmscnt(BigDecimal.valueOf(seq % 4));
+        item.setNpayAmt(BigDecimal.valueOf(seq * 1000L % 250000));
+        return item;
+    }
+}
@@ -0,0 +1,28 @@
+package com.abc.batch.job.test;
+
+import com.abc.batch.domain.PpWlessabcTxnItem;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Keyset 페이징 조회 행 (PpWlessabcTxnItem + 분할 테이블 행 순번 ROW_SEQ)
+ *
+ * - selectWlessMabcQatCplyPerpTgtListKeyset의 resultType
+ * - 이후 처리(Processor / Writer)는 PpWlessabcTxnItem으로 그대로 사용
+ */
+@Getter
+@Setter
+public class PpWlessabcTxnKeysetItem extends PpWlessabcTxnItem {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long rowSeq;
+
+    public SvcContKey keysetKey() {
+        if (rowSeq == null) {
+            throw new IllegalStateException("ROW_SEQ 없음 (keyset 쿼리 SELECT 목록 확인): svcContId=" + getSvcContId());
+        }
+        return new SvcContKey(getSvcContId(), rowSeq);
+    }
+}
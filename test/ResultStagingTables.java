@@ -0,0 +1,254 @@
+package com.abc.batch.job.test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파티션별 룰 결과 staging 테이블 (abcBAT.TMP_RULE_WLESS_CHK_RESLT_01_P{threadNo})
+ *
+ * - 파티션마다 UNLOGGED 테이블에 적재 → 15개 파티션이 같은 heap / 인덱스 / WAL을 두고 경합하지 않음
+ *   (LIKE 결과 임시테이블 INCLUDING DEFAULTS, 인덱스 없음)
+ * - 테이블은 파티션의 첫 적재 시 생성 (재시작 시 기존 행 유지)
+ * - BrmsInsertStep에서 결과 임시테이블로 합친 뒤 기존 insertRuleWlessChkReslt 수행
+ *
+ * 합치는 방식 (result-staging):
+ * - NONE         : staging 미사용, 모든 파티션이 결과 임시테이블에 직접 적재 (기존)
+ * - INHERIT      : ALTER TABLE ... INHERIT로 결과 임시테이블의 자식 테이블로 연결 (메타데이터만 변경, 행 복사 없음)
+ *                  → insertRuleWlessChkReslt의 FROM 결과 임시테이블이 자식 테이블 행까지 조회
+ * - INSERT_SELECT: mergeParallelism개 커넥션으로 staging 테이블별 INSERT ... SELECT 병렬 수행
+ *                  (테이블마다 INSERT + DROP을 한 트랜잭션으로 → 재수행 시 중복 없음)
+ *
+ * 순서 제약: 결과 임시테이블 드랍 전에 dropAll() (INHERIT 자식 테이블이 있으면 드랍 실패)
+ */
+@Slf4j
+public class ResultStagingTables {
+
+    public static final String BASE_TABLE = "abcBAT.TMP_RULE_WLESS_CHK_RESLT_01";
+
+    private static final String SCHEMA = "abcbat";
+    private static final String STAGING_PATTERN = "^tmp_rule_wless_chk_reslt_01_p[0-9]+$";
+
+    public enum Mode {
+        NONE,
+        INHERIT,
+        INSERT_SELECT
+    }
+
+    private final String name;
+    private final DataSource dataSource;
+    private final Mode mode;
+    private final int mergeParallelism;
+
+    private final Timer mergeTimer;
+
+    // threadNo → 생성 확인된 staging 테이블
+    private final Map<String, String> tables = new ConcurrentHashMap<>();
+
+    public ResultStagingTables(String name, DataSource dataSource, Mode mode, int mergeParallelism) {
+
+        if (mergeParallelism < 1) {
+            throw new IllegalArgumentException("mergeParallelism은 1 이상: " + mergeParallelism);
+        }
+
+        this.name = name;
+        this.dataSource = dataSource;
+        this.mode = mode;
+        this.mergeParallelism = mergeParallelism;
+
+        this.mergeTimer = Timer.builder("wless.result.staging.merge")
+            .tags("job", name, "mode", mode.name())
+            .register(Metrics.globalRegistry);
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.NONE;
+    }
+
+    /**
+     * 파티션 결과 적재 테이블 (없으면 생성)
+     */
+    public String tableFor(Object threadNo) {
+
+        if (!isEnabled()) {
+            return BASE_TABLE;
+        }
+
+        return tables.computeIfAbsent(String.valueOf(threadNo), key -> {
+            String table = BASE_TABLE + "_P" + key;
+            execute("CREATE UNLOGGED TABLE IF NOT EXISTS " + table + " (LIKE " + BASE_TABLE + " INCLUDING DEFAULTS)");
+            log.info("[ResultStagingTables] {} Partition {} staging 테이블: {}", name, key, table);
+            return table;
+        });
+    }
+
+    /**
+     * PreStep: 이전 실행의 staging 테이블 정리 (결과 임시테이블 드랍 전에 호출)
+     */
+    public void reset() {
+        tables.clear();
+        dropAll();
+    }
+
+    /**
+     * BrmsInsertStep: staging 테이블을 결과 임시테이블로 합침
+     *
+     * @return 소요시간 (ms)
+     */
+    public long merge() throws Exception {
+
+        if (!isEnabled()) {
+            return 0L;
+        }
+
+        long start = System.currentTimeMillis();
+        List<String> staging = stagingTables(mode == Mode.INHERIT);
+
+        if (mode == Mode.INHERIT) {
+            inheritAll(staging);
+        } else {
+            insertSelectAll(staging);
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        mergeTimer.record(elapsed, TimeUnit.MILLISECONDS);
+        log.info("[ResultStagingTables] {} staging {}개 합침 ({}): {}ms", name, staging.size(), mode, elapsed);
+        return elapsed;
+    }
+
+    /**
+     * staging 테이블 전체 드랍 (BrmsInsertStep에서 결과 임시테이블 드랍 전)
+     */
+    public void dropAll() {
+        List<String> staging = stagingTables(false);
+        for (String table : staging) {
+            execute("DROP TABLE IF EXISTS " + table);
+        }
+        if (!staging.isEmpty()) {
+            log.info("[ResultStagingTables] {} staging 테이블 드랍: {}개", name, staging.size());
+        }
+    }
+
+    private void inheritAll(List<String> staging) throws SQLException {
+
+        // 한 트랜잭션 → 일부만 연결된 상태로 남지 않음
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                for (String table : staging) {
+                    stmt.execute("ALTER TABLE " + table + " INHERIT " + BASE_TABLE);
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private void insertSelectAll(List<String> staging) throws Exception {
+
+        if (staging.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(mergeParallelism, staging.size()));
+        try {
+            List<Future<Long>> futures = new ArrayList<>(staging.size());
+            for (String table : staging) {
+                futures.add(executor.submit(() -> insertSelect(table)));
+            }
+
+            Exception failure = null;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (Exception e) {
+                    log.error("[ResultStagingTables] {} {} 합치기 실패", name, staging.get(i), e);
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long insertSelect(String table) throws SQLException {
+
+        long start = System.currentTimeMillis();
+
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                int rows = stmt.executeUpdate("INSERT INTO " + BASE_TABLE + " SELECT * FROM " + table);
+                stmt.execute("DROP TABLE " + table);
+                conn.commit();
+
+                long elapsed = System.currentTimeMillis() - start;
+                log.info("[ResultStagingTables] {} {} → {}: {}건, {}ms", name, table, BASE_TABLE, rows, elapsed);
+                return elapsed;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * DB에 있는 staging 테이블 (재시작 후에도 조회되도록 카탈로그 기준)
+     *
+     * @param notInherited true면 아직 결과 임시테이블에 연결되지 않은 것만
+     */
+    private List<String> stagingTables(boolean notInherited) {
+
+        String sql = "SELECT n.nspname || '.' || c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace"
+            + " WHERE n.nspname = ? AND c.relkind = 'r' AND c.relname ~ ?"
+            + (notInherited ? " AND NOT EXISTS (SELECT 1 FROM pg_inherits i WHERE i.inhrelid = c.oid)" : "")
+            + " ORDER BY c.relname";
+
+        List<String> staging = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, SCHEMA);
+            ps.setString(2, STAGING_PATTERN);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    staging.add(rs.getString(1));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("[ResultStagingTables] staging 테이블 조회 실패", e);
+        }
+        return staging;
+    }
+
+    private void execute(String sql) {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException("[ResultStagingTables] 실행 실패: " + sql, e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.abc.batch.job.test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * 파티션별 룰엔진 재시도 예산
+ *
+ * - 허용 재시도 수 = max(minRetries, 처리 건수 × retryRatio)
+ * - 예산 소진 시 실패 건은 재시도 없이 바로 최종 실패 처리 (장애 시 재시도 폭주 방지)
+ * - 처리 건수 / 재시도 수 / 최종 실패 수 / 예산 소진으로 포기한 수를 누적
+ */
+public class RetryBudget {
+
+    private final long minRetries;
+    private final double retryRatio;
+
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong gaveUp = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    private final Counter retryCounter;
+    private final Counter gaveUpCounter;
+    private final Counter exhaustedCounter;
+
+    public RetryBudget(String job, String partitionKey, long minRetries, double retryRatio) {
+        this.minRetries = minRetries;
+        this.retryRatio = retryRatio;
+
+        this.retryCounter = Metrics.counter("wless.rule.retry.attempts", "job", job, "partition", partitionKey);
+        this.gaveUpCounter = Metrics.counter("wless.rule.retry.gaveup", "job", job, "partition", partitionKey);
+        this.exhaustedCounter = Metrics.counter("wless.rule.retry.exhausted", "job", job, "partition", partitionKey);
+    }
+
+    /**
+     * 처리 대상 건수 누적 (예산 산정 기준)
+     */
+    public void onDispatched(int count) {
+        dispatched.addAndGet(count);
+    }
+
+    /**
+     * 재시도 1회 사용 시도
+     *
+     * @return 예산이 남아 있으면 true
+     */
+    public boolean tryAcquire() {
+        long allowed = Math.max(minRetries, (long) (dispatched.get() * retryRatio));
+
+        while (true) {
+            long used = retries.get();
+            if (used >= allowed) {
+                exhausted.incrementAndGet();
+                exhaustedCounter.increment();
+                return false;
+            }
+            if (retries.compareAndSet(used, used + 1)) {
+                retryCounter.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 최종 실패 1건 누적
+     */
+    public void onGaveUp() {
+        gaveUp.incrementAndGet();
+        gaveUpCounter.increment();
+    }
+
+    @Override
+    public String toString() {
+        return "dispatched=" + dispatched.get()
+            + ", retries=" + retries.get()
+            + ", gaveUp=" + gaveUp.get()
+            + ", budgetExhausted=" + exhausted.get();
+    }
+}
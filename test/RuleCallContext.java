@@ -0,0 +1,69 @@
+package com.abc.batch.job.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 파티션 단위 룰 호출 정보 (파티션 시작 시 1회 생성)
+ *
+ * - apiId("R001, R002,R003")를 건마다 split 하지 않도록 룰 코드 목록으로 미리 파싱
+ * - 공백 제거, 빈 코드 제외, 순서 유지
+ */
+@Getter
+public class RuleCallContext {
+
+    private final String partitionKey;
+    private final String batchExecDt;
+    private final List<String> ruleCodes;
+
+    private RuleCallContext(String partitionKey, String batchExecDt, List<String> ruleCodes) {
+        this.partitionKey = partitionKey;
+        this.batchExecDt = batchExecDt;
+        this.ruleCodes = Collections.unmodifiableList(ruleCodes);
+    }
+
+    /**
+     * @param apiId 콤마 구분 룰 코드 목록
+     */
+    public static RuleCallContext of(String partitionKey, String apiId, String batchExecDt) {
+        return new RuleCallContext(partitionKey, batchExecDt, parseRuleCodes(apiId));
+    }
+
+    /**
+     * 콤마 구분 룰 코드 문자열 파싱
+     */
+    public static List<String> parseRuleCodes(String codes) {
+
+        List<String> ruleCodes = new ArrayList<>();
+
+        if (codes != null) {
+            for (String code : codes.split(",")) {
+                String trimmed = code.trim();
+                if (!trimmed.isEmpty()) {
+                    ruleCodes.add(trimmed);
+                }
+            }
+        }
+
+        return ruleCodes;
+    }
+
+    /**
+     * 같은 파티션 / 기준일시로 룰 코드만 바꾼 정보 (증분 평가 시 바뀐 룰 코드만 호출)
+     */
+    public RuleCallContext withRuleCodes(List<String> ruleCodes) {
+        return new RuleCallContext(partitionKey, batchExecDt, new ArrayList<>(ruleCodes));
+    }
+
+    public boolean hasRuleCodes() {
+        return !ruleCodes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "partition=" + partitionKey + ", batchExecDt=" + batchExecDt + ", ruleCodes=" + ruleCodes;
+    }
+}
@@ -0,0 +1,713 @@
+package com.abc.batch.job.test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+import io.micrometer.core.instrument.Metrics;
+
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 룰엔진 API 호출 전용 Job 단위 공유 스케줄러
+ *
+ * 기존 방식:
+ * - 1000건 배치마다 Executors.newFixedThreadPool(5) 생성 → 배치 종료 시 shutdown
+ * - 15 파티션 × 수천 배치 = 매일 밤 수만 개 쓰레드 생성/소멸
+ *
+ * 변경 방식:
+ * - Job 시작 시(beforeJob) 쓰레드 풀 1개 생성, Job 종료 시(afterJob) 정리
+ * - 풀 크기 = 파티션 수 × 파티션당 병렬 수 (15 × 5 = 75)
+ * - 파티션별 Semaphore로 동시 실행 수를 균등 배분 (한 파티션이 풀 독점 불가)
+ * - 작업 큐는 bounded (ArrayBlockingQueue)
+ *
+ * 실행 모드:
+ * - PLATFORM: 고정 크기 쓰레드 풀 (기본값, 동시 호출 수 = 쓰레드 수)
+ * - VIRTUAL : 호출마다 가상 쓰레드 1개, 동시 호출 수는 maxInFlight Semaphore로만 제한
+ *             (ClusterManager.execute()가 blocking I/O이므로 쓰레드 비용 없이 동시성 확대)
+ *
+ * 배치 분배 방식 (dispatch):
+ * - STATIC : 1000건을 병렬 수만큼 고정 분할 (200건 × 5), 가장 느린 조각이 배치 완료 시점 결정
+ * - DYNAMIC: 워커가 공유 큐에서 micro-batch(기본 10건)씩 가져감, 먼저 끝난 워커가 남은 건을 계속 처리
+ *           워커 하나가 예외로 끝나면 공유 취소 표시 → 나머지 워커는 다음 micro-batch를 꺼내기 전에 중단
+ *           (실패한 배치의 남은 건을 계속 호출하지 않음)
+ * - 배치마다 워커 유휴(straggler 대기) 시간을 측정하여 메트릭으로 기록
+ * - 타임아웃은 dispatch 1회 전체 기준 (워커마다 timeout을 새로 주지 않음)
+ * - 타임아웃 / 워커 예외 시 남은 워커 취소: 실행 중인 워커 쓰레드 인터럽트 + 조각 처리 전 취소 여부 확인
+ *   (CompletableFuture.cancel은 실행 중인 쓰레드를 인터럽트하지 않음)
+ *
+ * 재시도 (non-blocking):
+ * - 실패 건은 워커를 재우지 않고 지연 큐(DelayQueue)에 등록 → 워커는 다음 건 계속 처리
+ * - 지연 = retryBaseDelay × 2^(시도-1), 50~100% 랜덤 jitter, retryMaxDelay 상한
+ * - 지연이 끝난 건은 워커가 다시 꺼내 처리, 시도 횟수 maxAttempts 초과 시 최종 실패
+ * - 파티션별 RetryBudget으로 재시도 총량 제한 및 시도/실패 건수 집계
+ *
+ * 건 내부 분기 (fork):
+ * - 1건의 여러 룰 코드 동시 호출용 별도 실행기 (워커가 점유한 슬롯과 무관 → 교착 없음)
+ * - PLATFORM: 캐시 쓰레드 풀 / VIRTUAL: 가상 쓰레드
+ */
+@Slf4j
+public class RuleCallScheduler implements JobExecutionListener {
+
+    // 쓰레드 풀 종료 대기 시간 (분)
+    private static final int SHUTDOWN_TIMEOUT_MINUTES = 10;
+
+    /**
+     * 룰 호출 실행 모드
+     */
+    public enum Mode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    /**
+     * 배치 분배 방식
+     */
+    public enum DispatchMode {
+        STATIC,
+        DYNAMIC
+    }
+
+    /**
+     * 분배된 조각(서브 배치 / micro-batch) 처리 작업
+     *
+     * - 성공 건의 결과를 반환, 실패 건은 failures로 알림 (재시도 대상)
+     * - 예외를 던지면 재시도 없이 배치 전체 실패
+     */
+    @FunctionalInterface
+    public interface BatchTask<T, R> {
+        List<R> call(List<T> items, ItemFailureHandler<T> failures) throws Exception;
+    }
+
+    /**
+     * 실패 건 통지
+     */
+    @FunctionalInterface
+    public interface ItemFailureHandler<T> {
+        void failed(T item, Exception cause);
+    }
+
+    private final String name;
+    private final int partitionCount;
+    private final int parallelPerPartition;
+    private final int queueCapacity;
+
+    @Setter
+    private Mode mode = Mode.PLATFORM;
+
+    // VIRTUAL 모드의 Job 전체 동시 호출 상한
+    @Setter
+    private int maxInFlight;
+
+    @Setter
+    private DispatchMode dispatchMode = DispatchMode.STATIC;
+
+    // DYNAMIC 모드에서 워커가 한 번에 가져가는 건수
+    @Setter
+    private int microBatchSize = 10;
+
+    // 건당 최대 시도 횟수 (최초 호출 포함)
+    @Setter
+    private int maxAttempts = 3;
+
+    // 재시도 지연 기준값 / 상한 (ms)
+    @Setter
+    private long retryBaseDelayMillis = 1000L;
+
+    @Setter
+    private long retryMaxDelayMillis = 30000L;
+
+    // 파티션별 재시도 예산: max(최소 재시도 수, 처리 건수 × 비율)
+    @Setter
+    private long retryBudgetMin = 100L;
+
+    @Setter
+    private double retryBudgetRatio = 0.1d;
+
+    private final Map<String, RetryBudget> retryBudgets = new ConcurrentHashMap<>();
+
+    // 파티션별 동시 실행 허용 수 (공정 배분)
+    private final Map<String, Semaphore> partitionPermits = new ConcurrentHashMap<>();
+
+    // Job 전체 동시 실행 허용 수
+    private volatile Semaphore inFlightPermits;
+
+    private final AtomicLong completedTasks = new AtomicLong();
+
+    private volatile ExecutorService executor;
+
+    private volatile ExecutorService forkExecutor;
+
+    public RuleCallScheduler(String name, int partitionCount, int parallelPerPartition, int queueCapacity) {
+        this.name = name;
+        this.partitionCount = partitionCount;
+        this.parallelPerPartition = parallelPerPartition;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        start();
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        retryBudgets.forEach((partitionKey, budget) ->
+            log.info("[RuleCallScheduler] {} Partition {} 재시도 집계: {}", name, partitionKey, budget));
+        shutdown();
+    }
+
+    /**
+     * 쓰레드 풀 생성 (이미 기동 중이면 무시)
+     */
+    public synchronized void start() {
+        if (executor != null && !executor.isShutdown()) {
+            return;
+        }
+
+        int inFlight;
+
+        if (mode == Mode.VIRTUAL) {
+            inFlight = maxInFlight > 0 ? maxInFlight : partitionCount * parallelPerPartition;
+            executor = newVirtualThreadExecutor();
+
+            if (executor == null) {
+                // Java 21 미만: 가상 쓰레드 미지원 → 제한 없는 데몬 쓰레드 풀로 대체 (동시성은 Semaphore로 제한)
+                log.warn("[RuleCallScheduler] {} 가상 쓰레드 미지원 JVM, 캐시 쓰레드 풀로 대체", name);
+                executor = Executors.newCachedThreadPool(new NamedThreadFactory(name + "-rule-call-"));
+            }
+            forkExecutor = executor;
+        } else {
+            inFlight = partitionCount * parallelPerPartition;
+            executor = new ThreadPoolExecutor(
+                    inFlight, inFlight,
+                    0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    new NamedThreadFactory(name + "-rule-call-"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            forkExecutor = Executors.newCachedThreadPool(new NamedThreadFactory(name + "-rule-fork-"));
+        }
+
+        inFlightPermits = new Semaphore(inFlight, true);
+        partitionPermits.clear();
+        retryBudgets.clear();
+        completedTasks.set(0);
+
+        log.info("[RuleCallScheduler] {} 시작: mode={}, inFlight={}, 파티션당 {}, queueCapacity={}",
+            name, mode, inFlight, getParallelPerPartition(), queueCapacity);
+    }
+
+    /**
+     * 쓰레드 풀 종료 (진행 중 작업 완료 대기)
+     */
+    public synchronized void shutdown() {
+        if (executor == null) {
+            return;
+        }
+
+        if (forkExecutor != executor) {
+            forkExecutor.shutdown();
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                log.warn("[RuleCallScheduler] {} 강제 종료", name);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("[RuleCallScheduler] {} 종료: completedTasks={}", name, completedTasks.get());
+        executor = null;
+        forkExecutor = null;
+    }
+
+    /**
+     * 워커 안에서 추가 작업 분기 (파티션 / Job 슬롯을 잡지 않음)
+     *
+     * - 실제 룰엔진 동시 호출 수는 RuleEngineInvoker의 동시성 제한기가 제한
+     */
+    public <T> Future<T> fork(Callable<T> task) {
+
+        ExecutorService current = forkExecutor;
+        if (current == null) {
+            throw new IllegalStateException("RuleCallScheduler[" + name + "]가 시작되지 않음");
+        }
+
+        return current.submit(task);
+    }
+
+    /**
+     * 파티션 몫의 슬롯을 확보한 뒤 작업을 공유 풀에 제출
+     *
+     * - 파티션 슬롯 또는 Job 전체 슬롯이 모두 사용 중이면 호출 쓰레드가 대기 (backpressure)
+     * - 작업 완료 시 슬롯 반환
+     */
+    public <T> CompletableFuture<T> submit(String partitionKey, Supplier<T> task) throws InterruptedException {
+
+        ExecutorService current = executor;
+        Semaphore inFlight = inFlightPermits;
+        if (current == null) {
+            throw new IllegalStateException("RuleCallScheduler[" + name + "]가 시작되지 않음");
+        }
+
+        Semaphore permits = partitionPermits.computeIfAbsent(partitionKey,
+            key -> new Semaphore(getParallelPerPartition(), true));
+
+        permits.acquire();
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            permits.release();
+            throw e;
+        }
+
+        try {
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(task, current);
+            future.whenComplete((result, error) -> {
+                completedTasks.incrementAndGet();
+                inFlight.release();
+                permits.release();
+            });
+            return future;
+        } catch (RuntimeException e) {
+            inFlight.release();
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 배치를 파티션 병렬 수만큼의 워커로 나누어 처리하고 결과를 모아서 반환
+     *
+     * - STATIC : 고정 분할 후 워커마다 자기 조각만 처리
+     * - DYNAMIC: 워커마다 공유 큐에서 microBatchSize건씩 꺼내 처리 (work-stealing)
+     * - 실패 건은 지연 큐를 거쳐 어느 워커든 재처리
+     * - 워커 중 하나라도 예외를 던지면 나머지 워커 취소 후 예외 전파
+     * - timeout은 배치 전체 완료 기한 (워커 수와 무관), 초과 시 워커 취소 후 TimeoutException
+     *
+     * @param keyOf 로그용 건 식별자 (svcContId 등)
+     */
+    public <T, R> List<R> dispatch(String partitionKey,
+                                   List<? extends T> items,
+                                   Function<? super T, String> keyOf,
+                                   BatchTask<T, R> task,
+                                   long timeout,
+                                   TimeUnit unit) throws Exception {
+
+        int parallelCount = getParallelPerPartition();
+        long dispatchStart = System.nanoTime();
+        long deadline = dispatchStart + unit.toNanos(timeout);
+
+        RetryBudget budget = retryBudgets.computeIfAbsent(partitionKey,
+            key -> new RetryBudget(name, key, retryBudgetMin, retryBudgetRatio));
+        budget.onDispatched(items.size());
+
+        RetryQueue<T> retryQueue = new RetryQueue<>(partitionKey, keyOf, budget);
+        DispatchControl control = new DispatchControl();
+        List<CompletableFuture<WorkerResult<R>>> futures = new ArrayList<>();
+
+        if (dispatchMode == DispatchMode.DYNAMIC) {
+            Queue<T> queue = new ConcurrentLinkedQueue<>(items);
+            int workerCount = Math.min(parallelCount, (items.size() + microBatchSize - 1) / microBatchSize);
+
+            for (int i = 0; i < workerCount; i++) {
+                futures.add(submit(partitionKey,
+                    () -> runWorker(control, () -> workLoop(queue, microBatchSize, retryQueue, task, control))));
+            }
+        } else {
+            int subBatchSize = (int) Math.ceil((double) items.size() / parallelCount);
+
+            for (int i = 0; i < parallelCount; i++) {
+                int start = i * subBatchSize;
+                int end = Math.min(start + subBatchSize, items.size());
+
+                if (start >= items.size()) break;
+
+                Queue<T> subBatch = new ArrayDeque<>(items.subList(start, end));
+                futures.add(submit(partitionKey,
+                    () -> runWorker(control, () -> workLoop(subBatch, subBatch.size(), retryQueue, task, control))));
+            }
+        }
+
+        // ⏳ 모든 워커 완료 대기 (남은 시간 = 배치 기한 - 현재)
+        List<R> allResults = new ArrayList<>();
+        long[] workerEnds = new long[futures.size()];
+        int index = 0;
+        for (CompletableFuture<WorkerResult<R>> future : futures) {
+            try {
+                WorkerResult<R> result = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                allResults.addAll(result.results);
+                workerEnds[index++] = result.endNanos;
+            } catch (ExecutionException e) {
+                control.cancel();
+                // 중단된 워커가 아니라 먼저 실패한 워커의 예외 전파
+                Exception failure = control.failure();
+                throw failure != null && e.getCause() instanceof CancellationException ? new ExecutionException(failure) : e;
+            } catch (Exception e) {
+                control.cancel();
+                throw e;
+            }
+        }
+
+        recordDispatchStats(partitionKey, items.size(), dispatchStart, workerEnds);
+
+        return allResults;
+    }
+
+    /**
+     * 워커 처리 루프
+     *
+     * 1. 지연이 끝난 재시도 건이 있으면 먼저 처리
+     * 2. 원본 큐에서 chunkSize건씩 꺼내 처리
+     * 3. 원본 큐가 비었어도 대기 중인 재시도 건이 남아 있으면 지연 만료까지 대기 후 처리
+     * - 조각 처리 전마다 dispatch 취소 여부 확인
+     */
+    private <T, R> List<R> workLoop(Queue<T> source,
+                                    int chunkSize,
+                                    RetryQueue<T> retryQueue,
+                                    BatchTask<T, R> task,
+                                    DispatchControl control) throws Exception {
+
+        List<R> results = new ArrayList<>();
+        List<T> chunk = new ArrayList<>(Math.min(chunkSize, microBatchSize));
+
+        while (true) {
+            control.checkCancelled();
+
+            RetryEntry<T> retry = retryQueue.pollReady();
+
+            if (retry == null) {
+                chunk.clear();
+                T item;
+                while (chunk.size() < chunkSize && (item = source.poll()) != null) {
+                    chunk.add(item);
+                }
+                if (!chunk.isEmpty()) {
+                    results.addAll(task.call(chunk, (failed, cause) -> retryQueue.schedule(failed, 1, cause)));
+                    continue;
+                }
+
+                retry = retryQueue.awaitReady(control);
+                if (retry == null) {
+                    return results;
+                }
+            }
+
+            try {
+                RetryEntry<T> entry = retry;
+                results.addAll(task.call(Collections.singletonList(entry.item),
+                    (failed, cause) -> retryQueue.schedule(failed, entry.attempt, cause)));
+            } finally {
+                retryQueue.done();
+            }
+        }
+    }
+
+    /**
+     * 워커 실행 후 종료 시각 기록 (checked 예외는 CompletionException으로 감쌈)
+     *
+     * - 실행 중에는 워커 쓰레드를 control에 등록 (취소 시 인터럽트 대상)
+     * - 예외로 끝나면 control.stop() → 다른 워커는 다음 조각 전에 중단 (진행 중인 호출은 인터럽트하지 않음)
+     */
+    private <R> WorkerResult<R> runWorker(DispatchControl control, BatchCall<R> call) {
+        control.enter();
+        try {
+            List<R> results = call.call();
+            return new WorkerResult<>(results, System.nanoTime());
+        } catch (CancellationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            control.stop(e);
+            throw e;
+        } catch (Exception e) {
+            control.stop(e);
+            throw new CompletionException(e);
+        } finally {
+            control.exit();
+        }
+    }
+
+    /**
+     * 배치별 straggler 유휴 시간 기록
+     *
+     * - 유휴 시간 = Σ(배치 완료 시각 - 워커 완료 시각)
+     * - 유휴 비율 = 유휴 시간 / (워커 수 × 배치 소요 시간)
+     */
+    private void recordDispatchStats(String partitionKey, int itemCount, long dispatchStart, long[] workerEnds) {
+
+        if (workerEnds.length == 0) {
+            return;
+        }
+
+        long batchEnd = dispatchStart;
+        for (long end : workerEnds) {
+            batchEnd = Math.max(batchEnd, end);
+        }
+
+        long idleNanos = 0;
+        for (long end : workerEnds) {
+            idleNanos += batchEnd - end;
+        }
+
+        long wallMillis = TimeUnit.NANOSECONDS.toMillis(batchEnd - dispatchStart);
+        long idleMillis = TimeUnit.NANOSECONDS.toMillis(idleNanos);
+        double idleRatio = wallMillis == 0 ? 0d : (double) idleMillis / (workerEnds.length * wallMillis);
+
+        Metrics.summary("wless.rule.dispatch.straggler.idle.ms",
+            "job", name, "partition", partitionKey, "mode", dispatchMode.name()).record(idleMillis);
+        Metrics.summary("wless.rule.dispatch.straggler.idle.ratio",
+            "job", name, "partition", partitionKey, "mode", dispatchMode.name()).record(idleRatio);
+
+        log.debug("[Partition {}] dispatch({}) {}건, 워커 {}개, {}ms, straggler 유휴 {}ms ({}%)",
+            partitionKey, dispatchMode, itemCount, workerEnds.length, wallMillis, idleMillis,
+            Math.round(idleRatio * 100));
+    }
+
+    /**
+     * 파티션당 병렬 수
+     *
+     * - PLATFORM: 설정값 그대로 (5)
+     * - VIRTUAL : maxInFlight를 파티션 수로 균등 분배
+     */
+    public int getParallelPerPartition() {
+        if (mode == Mode.VIRTUAL && maxInFlight > 0) {
+            return Math.max(1, (maxInFlight + partitionCount - 1) / partitionCount);
+        }
+        return parallelPerPartition;
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor() 조회 (Java 21+)
+     *
+     * 컴파일 대상 JDK와 무관하게 동작하도록 MethodHandle로 조회, 미지원 시 null
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            MethodHandle factory = MethodHandles.publicLookup().findStatic(
+                Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            return (ExecutorService) factory.invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * 쓰레드 이름 지정용 ThreadFactory
+     */
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchCall<R> {
+        List<R> call() throws Exception;
+    }
+
+    /**
+     * 워커 처리 결과 + 종료 시각
+     */
+    private static class WorkerResult<R> {
+
+        final List<R> results;
+        final long endNanos;
+
+        WorkerResult(List<R> results, long endNanos) {
+            this.results = results;
+            this.endNanos = endNanos;
+        }
+    }
+
+    /**
+     * dispatch 1회 범위의 워커 취소
+     *
+     * - cancel(): 취소 표시 후 실행 중인 워커 쓰레드 인터럽트 (타임아웃 / 대기 중 예외)
+     * - stop()  : 취소 표시만 (워커 예외 → 나머지 워커는 조각 처리 / 재시도 대기 전 확인 후 중단), 최초 예외 보관
+     * - 등록 / 해제 / 인터럽트는 같은 잠금 안에서 → 해제된(다른 작업으로 재사용된) 쓰레드는 인터럽트하지 않음
+     */
+    private static class DispatchControl {
+
+        private final Set<Thread> running = new HashSet<>();
+        private volatile boolean cancelled;
+        private Exception failure;
+
+        synchronized void enter() {
+            checkCancelled();
+            running.add(Thread.currentThread());
+        }
+
+        synchronized void exit() {
+            running.remove(Thread.currentThread());
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            running.forEach(Thread::interrupt);
+        }
+
+        synchronized void stop(Exception cause) {
+            cancelled = true;
+            if (failure == null) {
+                failure = cause;
+            }
+        }
+
+        synchronized Exception failure() {
+            return failure;
+        }
+
+        void checkCancelled() {
+            if (cancelled) {
+                throw new CancellationException("dispatch 취소");
+            }
+        }
+    }
+
+    /**
+     * dispatch 1회 범위의 재시도 지연 큐
+     */
+    private class RetryQueue<T> {
+
+        private final String partitionKey;
+        private final Function<? super T, String> keyOf;
+        private final RetryBudget budget;
+
+        private final DelayQueue<RetryEntry<T>> queue = new DelayQueue<>();
+
+        // 등록되었으나 아직 처리가 끝나지 않은 재시도 건수
+        private final AtomicInteger pending = new AtomicInteger();
+
+        RetryQueue(String partitionKey, Function<? super T, String> keyOf, RetryBudget budget) {
+            this.partitionKey = partitionKey;
+            this.keyOf = keyOf;
+            this.budget = budget;
+        }
+
+        /**
+         * 실패 건 재시도 등록 (최대 시도 초과 또는 예산 소진 시 최종 실패)
+         *
+         * @param attempt 방금 실패한 시도 번호 (1부터)
+         */
+        void schedule(T item, int attempt, Exception cause) {
+
+            if (attempt >= maxAttempts || !budget.tryAcquire()) {
+                budget.onGaveUp();
+                log.error("[Partition {}] API 최종 실패 (시도 {}회): svcContId={}",
+                    partitionKey, attempt, keyOf.apply(item), cause);
+                return;
+            }
+
+            long delayMillis = Math.min(retryMaxDelayMillis, retryBaseDelayMillis << (attempt - 1));
+            delayMillis = delayMillis / 2 + ThreadLocalRandom.current().nextLong(delayMillis / 2 + 1);
+
+            log.warn("[Partition {}] API 재시도 {}/{} ({}ms 후): svcContId={}",
+                partitionKey, attempt, maxAttempts - 1, delayMillis, keyOf.apply(item));
+
+            pending.incrementAndGet();
+            queue.add(new RetryEntry<>(item, attempt + 1, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis)));
+        }
+
+        /**
+         * 지연이 끝난 재시도 건 (없으면 null, 대기하지 않음)
+         */
+        RetryEntry<T> pollReady() {
+            return queue.poll();
+        }
+
+        /**
+         * 남은 재시도 건이 있으면 지연 만료까지 대기, 없으면 null (대기 중 dispatch 취소 시 CancellationException)
+         */
+        RetryEntry<T> awaitReady(DispatchControl control) throws InterruptedException {
+            while (pending.get() > 0) {
+                control.checkCancelled();
+                RetryEntry<T> entry = queue.poll(100L, TimeUnit.MILLISECONDS);
+                if (entry != null) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 재시도 건 1개 처리 완료
+         */
+        void done() {
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * 재시도 대기 건
+     */
+    private static class RetryEntry<T> implements Delayed {
+
+        final T item;
+        final int attempt;
+        final long dueNanos;
+
+        RetryEntry(T item, int attempt, long dueNanos) {
+            this.item = item;
+            this.attempt = attempt;
+            this.dueNanos = dueNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
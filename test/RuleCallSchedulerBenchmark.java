@@ -0,0 +1,139 @@
+package com.abc.batch.job.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.abc.batch.domain.PpWlessabcTxnItem;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RuleCallScheduler 처리량 벤치마크 (로컬 StubRuleEngine, Slave와 같은 호출 경로)
+ *
+ * 호출 경로 (WlessMabcCursorTasklet.evaluate와 동일):
+ *   RuleCallScheduler.dispatch → WlessRuleEvaluator.evaluateBatch → RuleEngineInvoker.execute → StubRuleEngine
+ *   (RuleRequestBinder 입력 바인딩, RuleResultMappingPlan 결과 매핑 포함 / 리미터 · 서킷 브레이커 없음)
+ *
+ * 측정 항목:
+ * - PLATFORM 75 (현행: 15 파티션 × 5 쓰레드)
+ * - VIRTUAL  75 / 300 / 1000 동시 호출
+ * - 파티션 쓰레드 15개가 각자 1000건 배치를 dispatch (건마다 룰 코드 수만큼 호출)
+ *
+ * stub 룰엔진: p50 / p99 로그정규 지연 (Thread.sleep), 오류 없음, seed 고정
+ *
+ * 실행: java com.abc.batch.job.test.RuleCallSchedulerBenchmark [파티션당 건수] [p50 ms] [p99 ms]
+ *
+ * 측정 결과 (기본값: 파티션당 2000건 × 룰 코드 1개 = 30000호출, p50=20 / p99=60ms, 1 vCPU, JDK 17):
+ *   PLATFORM   75 :  2,917 calls/s (10,284ms)
+ *   VIRTUAL    75 :  2,951 calls/s (10,165ms)
+ *   VIRTUAL   300 : 10,288 calls/s ( 2,916ms)
+ *   VIRTUAL  1000 : 20,242 calls/s ( 1,482ms)
+ *   JDK 17은 가상 쓰레드 미지원 → VIRTUAL은 캐시 쓰레드 풀 대체 경로로 측정 (동시 호출 상한은 같음)
+ */
+@Slf4j
+public class RuleCallSchedulerBenchmark {
+
+    private static final int PARTITION_COUNT = 15;
+    private static final int PARALLEL_COUNT = 5;
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String RULE_CODES = "R001";
+    private static final String BATCH_EXEC_DT = "20261017000000";
+
+    private static final int[] IN_FLIGHT_LEVELS = {75, 300, 1000};
+
+    public static void main(String[] args) throws Exception {
+
+        int itemsPerPartition = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        double p50Millis = args.length > 1 ? Double.parseDouble(args[1]) : 20d;
+        double p99Millis = args.length > 2 ? Double.parseDouble(args[2]) : 60d;
+
+        log.info("=================================================================");
+        log.info("[Benchmark] 파티션 {} × {}건, 룰 코드 {}, stub p50={}ms / p99={}ms",
+            PARTITION_COUNT, itemsPerPartition, RULE_CODES, p50Millis, p99Millis);
+        log.info("=================================================================");
+
+        List<String> results = new ArrayList<>();
+
+        results.add(run(RuleCallScheduler.Mode.PLATFORM, PARTITION_COUNT * PARALLEL_COUNT,
+            itemsPerPartition, p50Millis, p99Millis));
+
+        for (int inFlight : IN_FLIGHT_LEVELS) {
+            results.add(run(RuleCallScheduler.Mode.VIRTUAL, inFlight, itemsPerPartition, p50Millis, p99Millis));
+        }
+
+        log.info("=================================================================");
+        results.forEach(result -> log.info("[Benchmark] {}", result));
+    }
+
+    /**
+     * 파티션 수만큼 호출 쓰레드를 두고 배치마다 스케줄러 dispatch
+     */
+    private static String run(RuleCallScheduler.Mode mode, int inFlight, int itemsPerPartition,
+                              double p50Millis, double p99Millis) throws Exception {
+
+        RuleCallScheduler scheduler = new RuleCallScheduler(
+            "benchmark", PARTITION_COUNT, PARALLEL_COUNT, PARTITION_COUNT * PARALLEL_COUNT);
+        scheduler.setMode(mode);
+        scheduler.setMaxInFlight(inFlight);
+        scheduler.start();
+
+        StubRuleEngine engine = new StubRuleEngine(p50Millis, p99Millis, 0d, 0L, 0L, 0d, 1, 42L);
+        WlessRuleEvaluator evaluator = new WlessRuleEvaluator(new RuleEngineInvoker(null, null, engine), scheduler);
+        evaluator.setRequestFactory(StubRuleEngine.StubRuleReq::new);
+
+        AtomicLong resultRows = new AtomicLong();
+        ExecutorService partitions = Executors.newFixedThreadPool(PARTITION_COUNT);
+
+        long startTime = System.nanoTime();
+
+        try {
+            List<Future<?>> drivers = new ArrayList<>();
+            for (int p = 0; p < PARTITION_COUNT; p++) {
+                String partitionKey = String.valueOf(p);
+                int partition = p;
+                drivers.add(partitions.submit(() -> {
+                    RuleCallContext context = RuleCallContext.of(partitionKey, RULE_CODES, BATCH_EXEC_DT);
+                    for (int offset = 0; offset < itemsPerPartition; offset += BATCH_SIZE) {
+                        List<PpWlessabcTxnItem> batch = items(partition, offset, Math.min(BATCH_SIZE, itemsPerPartition - offset));
+                        resultRows.addAndGet(scheduler.dispatch(partitionKey, batch, PpWlessabcTxnItem::getSvcContId,
+                            (subBatch, failures) -> evaluator.evaluateBatch(subBatch, context, failures),
+                            5, TimeUnit.MINUTES).size());
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> driver : drivers) {
+                driver.get();
+            }
+        } finally {
+            partitions.shutdown();
+            scheduler.shutdown();
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        long calls = (long) PARTITION_COUNT * itemsPerPartition * RuleCallContext.parseRuleCodes(RULE_CODES).size();
+
+        String result = String.format("mode=%s, inFlight=%d → %d호출 / %dms = %,d calls/s (결과 %d행)",
+            mode, inFlight, calls, elapsedMs, calls * 1000L / Math.max(1L, elapsedMs), resultRows.get());
+        log.info("[Benchmark] {}", result);
+        log.info("[Benchmark] stub {}", engine);
+        return result;
+    }
+
+    private static List<PpWlessabcTxnItem> items(int partition, int offset, int count) {
+
+        List<PpWlessabcTxnItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int seq = offset + i;
+            items.add(PpWlessabcTxnItemFixture.of(String.format("S%02d%09d", partition, seq), seq));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,288 @@
+package com.abc.batch.job.test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * InnoRules 호출 서킷 브레이커 (Job 전체 파티션 공유)
+ *
+ * 상태:
+ * - CLOSED   : 정상 호출, 최근 windowSize건 중 실패율이 failureRateThreshold 이상이면 OPEN
+ * - OPEN     : openDuration 동안 호출 대기 (클러스터로 요청 보내지 않음), 경과 후 HALF_OPEN
+ * - HALF_OPEN: probeCount건만 시험 호출, 모두 성공하면 CLOSED / 1건이라도 실패하면 다시 OPEN
+ *
+ * - 연속 OPEN마다 openDuration 2배 (흔들리는 클러스터는 자동으로 호출 간격이 벌어짐)
+ * - 연속 OPEN 횟수가 maxConsecutiveOpens에 도달하면 장애로 판단 → 대기 시간(최소 TRIPPED_MIN_OPEN) 동안 호출 즉시 실패
+ *   (Step 빠른 실패), 경과 후 HALF_OPEN 시험 호출로 복구 확인
+ * - HALF_OPEN 시험 호출이 probeTimeout 안에 끝나지 않으면 실패로 보고 다시 OPEN (대기 중 호출이 무한정 묶이지 않음)
+ * - Job 시작 시 reset() (RuleEngineInvoker.beforeJob) → 이전 실행의 OPEN / 연속 횟수를 넘겨받지 않음
+ *
+ * 메트릭:
+ * - wless.rule.circuit.state : 0=CLOSED, 1=HALF_OPEN, 2=OPEN
+ */
+@Slf4j
+public class RuleCircuitBreaker {
+
+    // 장애 판정 후 최소 OPEN 유지 시간
+    private static final long TRIPPED_MIN_OPEN_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    // HALF_OPEN 시험 호출 최대 대기 (openDuration이 더 길면 openDuration)
+    private static final long PROBE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int probeCount;
+    private final int maxConsecutiveOpens;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition stateChanged = lock.newCondition();
+
+    private State state = State.CLOSED;
+
+    // CLOSED 상태 최근 호출 결과 (ring buffer, true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCalls;
+    private int windowFailures;
+
+    private long openUntilNanos;
+    private int consecutiveOpens;
+
+    private long halfOpenUntilNanos;
+
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    // 상태 전환마다 증가, 이전 상태에서 허가된 호출 결과는 무시
+    private long generation;
+
+    public RuleCircuitBreaker(String name, double failureRateThreshold, int windowSize, int minimumCalls,
+                              long openDurationMillis, int probeCount, int maxConsecutiveOpens) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+        this.probeCount = probeCount;
+        this.maxConsecutiveOpens = maxConsecutiveOpens;
+        this.window = new boolean[windowSize];
+
+        Metrics.gauge("wless.rule.circuit.state", Tags.of("job", name), this, breaker -> breaker.getState().ordinal());
+    }
+
+    /**
+     * 호출 허가
+     *
+     * - CLOSED: 즉시 허가
+     * - OPEN: openDuration 경과(HALF_OPEN 전환)까지 대기, 장애 판정 상태면 대기 시간 동안 즉시 예외
+     * - HALF_OPEN: 시험 호출 슬롯이 남아 있으면 허가, 없으면 결과 나올 때까지 대기 (probeTimeout 경과 시 다시 OPEN)
+     *
+     * @return 허가 번호 (onSuccess / onFailure / onIgnored에 그대로 전달)
+     * @throws CircuitBreakerOpenException 연속 OPEN 한도 도달 후 대기 중 (클러스터 장애)
+     */
+    public long acquirePermission() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                if (state == State.CLOSED) {
+                    return generation;
+                }
+
+                if (state == State.OPEN) {
+                    long waitNanos = openUntilNanos - System.nanoTime();
+                    if (waitNanos > 0) {
+                        if (consecutiveOpens >= maxConsecutiveOpens) {
+                            throw new CircuitBreakerOpenException("InnoRules 서킷 OPEN (연속 " + consecutiveOpens
+                                + "회), " + TimeUnit.NANOSECONDS.toSeconds(waitNanos) + "s 동안 룰엔진 호출 중단: " + name);
+                        }
+                        stateChanged.awaitNanos(waitNanos);
+                        continue;
+                    }
+
+                    transitionTo(State.HALF_OPEN);
+                    halfOpenUntilNanos = System.nanoTime() + Math.max(openDurationNanos, PROBE_TIMEOUT_NANOS);
+                }
+
+                // HALF_OPEN
+                if (probesInFlight + probeSuccesses < probeCount) {
+                    probesInFlight++;
+                    return generation;
+                }
+
+                long probeWaitNanos = halfOpenUntilNanos - System.nanoTime();
+                if (probeWaitNanos <= 0) {
+                    // 시험 호출 응답 없음 → 실패로 보고 다시 OPEN (늦게 온 결과는 generation으로 무시)
+                    log.warn("[CircuitBreaker] {} HALF_OPEN 시험 호출 응답 없음 ({}건 진행 중)", name, probesInFlight);
+                    open();
+                    continue;
+                }
+                stateChanged.awaitNanos(probeWaitNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 성공 기록
+     */
+    public void onSuccess(long permit) {
+        lock.lock();
+        try {
+            if (permit != generation) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                probesInFlight--;
+                probeSuccesses++;
+                if (probeSuccesses >= probeCount) {
+                    consecutiveOpens = 0;
+                    transitionTo(State.CLOSED);
+                }
+            } else if (state == State.CLOSED) {
+                record(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 실패 기록 (RulesException / 응답 처리 오류)
+     */
+    public void onFailure(long permit) {
+        lock.lock();
+        try {
+            if (permit != generation) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                probesInFlight--;
+                open();
+            } else if (state == State.CLOSED) {
+                record(true);
+                if (windowCalls >= minimumCalls && (double) windowFailures / windowCalls >= failureRateThreshold) {
+                    open();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허가 후 호출하지 못한 경우 (인터럽트 등) 시험 호출 슬롯 반환
+     */
+    public void onIgnored(long permit) {
+        lock.lock();
+        try {
+            if (permit == generation && state == State.HALF_OPEN) {
+                probesInFlight--;
+                stateChanged.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Job 시작 시 초기화: CLOSED, 연속 OPEN 횟수 / 최근 호출 결과 초기화
+     * (이전 실행에서 허가된 호출 결과는 generation 증가로 무시)
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            consecutiveOpens = 0;
+            openUntilNanos = 0L;
+            transitionTo(State.CLOSED);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failed) {
+        if (windowCalls == windowSize) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCalls++;
+        }
+
+        window[windowIndex] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private void open() {
+        consecutiveOpens++;
+        long duration = openDurationNanos << Math.min(consecutiveOpens - 1, 10);
+
+        if (consecutiveOpens >= maxConsecutiveOpens) {
+            duration = Math.max(duration, TRIPPED_MIN_OPEN_NANOS);
+            log.error("[CircuitBreaker] {} OPEN (연속 {}/{}회), 클러스터 장애로 판단 → {}ms 동안 룰엔진 호출 중단 후 시험 호출",
+                name, consecutiveOpens, maxConsecutiveOpens, TimeUnit.NANOSECONDS.toMillis(duration));
+        } else {
+            log.warn("[CircuitBreaker] {} OPEN (연속 {}/{}회, 최근 실패 {}/{}건), {}ms 대기",
+                name, consecutiveOpens, maxConsecutiveOpens, windowFailures, windowCalls,
+                TimeUnit.NANOSECONDS.toMillis(duration));
+        }
+
+        openUntilNanos = System.nanoTime() + duration;
+        transitionTo(State.OPEN);
+    }
+
+    private void transitionTo(State next) {
+        if (state != next) {
+            log.info("[CircuitBreaker] {} {} → {}", name, state, next);
+        }
+
+        state = next;
+        generation++;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCalls = 0;
+            windowFailures = 0;
+        }
+
+        stateChanged.signalAll();
+    }
+
+    /**
+     * 서킷 OPEN으로 호출 거부 (재시도 대상 아님)
+     */
+    public static class CircuitBreakerOpenException extends IllegalStateException {
+
+        public CircuitBreakerOpenException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.abc.batch.job.test;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+import com.innoexpert.rulesclient.ClusterManager;
+import com.innoexpert.rulesclient.ResultSet;
+import com.innoexpert.rulesclient.RuleInterface;
+import com.innoexpert.rulesclient.RuleReq;
+import com.innoexpert.rulesclient.RulesException;
+
+/**
+ * InnoRules execute() 호출 공통 진입점 (Job 단위 공유)
+ *
+ * - Tasklet / Writer의 intf.execute(req) 호출을 한 곳으로 모음
+ * - RuleCircuitBreaker 설정 시 호출 전 허가 확인 (OPEN이면 대기 또는 즉시 실패), 호출 결과 반영
+ * - AdaptiveConcurrencyLimiter 설정 시 호출 전 슬롯 확보, 호출 후 응답시간/실패 반영
+ * - ruleInterface 설정 시 ClusterManager 대신 해당 인터페이스 호출 (로컬 StubRuleEngine)
+ * - Job 시작 시 서킷 브레이커 / 동시성 제한기 초기화 (Job 리스너로 등록, 이전 실행 상태를 넘겨받지 않음)
+ */
+public class RuleEngineInvoker implements JobExecutionListener {
+
+    // null이면 제한 없이 바로 호출
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    // null이면 서킷 브레이커 없이 호출
+    private final RuleCircuitBreaker circuitBreaker;
+
+    // null이면 ClusterManager.getInterface() (실제 룰 클러스터)
+    private final RuleInterface ruleInterface;
+
+    public RuleEngineInvoker(AdaptiveConcurrencyLimiter limiter, RuleCircuitBreaker circuitBreaker) {
+        this(limiter, circuitBreaker, null);
+    }
+
+    public RuleEngineInvoker(AdaptiveConcurrencyLimiter limiter, RuleCircuitBreaker circuitBreaker,
+                             RuleInterface ruleInterface) {
+        this.limiter = limiter;
+        this.circuitBreaker = circuitBreaker;
+        this.ruleInterface = ruleInterface;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        if (circuitBreaker != null) {
+            circuitBreaker.reset();
+        }
+        if (limiter != null) {
+            limiter.reset();
+        }
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+    }
+
+    /**
+     * 룰 실행
+     *
+     * @throws RuleCircuitBreaker.CircuitBreakerOpenException 클러스터 장애 판정 (재시도 없이 Step 실패)
+     */
+    public ResultSet execute(RuleReq req) throws RulesException, InterruptedException {
+
+        if (circuitBreaker == null) {
+            return executeLimited(req);
+        }
+
+        long permit = circuitBreaker.acquirePermission();
+        boolean called = false;
+
+        try {
+            ResultSet rs = executeLimited(req);
+            called = true;
+            circuitBreaker.onSuccess(permit);
+            return rs;
+        } catch (RulesException | RuntimeException e) {
+            called = true;
+            circuitBreaker.onFailure(permit);
+            throw e;
+        } finally {
+            if (!called) {
+                circuitBreaker.onIgnored(permit);
+            }
+        }
+    }
+
+    private ResultSet executeLimited(RuleReq req) throws RulesException, InterruptedException {
+
+        if (limiter == null) {
+            return ruleInterface().execute(req);
+        }
+
+        limiter.acquire();
+
+        long startTime = System.nanoTime();
+        boolean dropped = true;
+
+        try {
+            ResultSet rs = ruleInterface().execute(req);
+            dropped = false;
+            return rs;
+        } finally {
+            limiter.release(System.nanoTime() - startTime, dropped);
+        }
+    }
+
+    private RuleInterface ruleInterface() throws RulesException {
+        return ruleInterface != null ? ruleInterface : ClusterManager.getInterface();
+    }
+}
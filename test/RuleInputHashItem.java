@@ -0,0 +1,39 @@
+package com.abc.batch.job.test;
+
+import java.io.Serializable;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 건 + 룰 코드별 룰 입력 해시 (abcBAT.RULE_WLESS_INPUT_HASH / TMP_RULE_WLESS_INPUT_HASH)
+ *
+ * - inputHash : 룰 입력 fingerprint의 MD5 (svc_cont_id 제외)
+ * - ruleVer   : 평가 당시 룰 버전 (rule-call-incremental-rule-versions)
+ * - evalYn    : 이번 실행에서 평가(Y) / 이전 결과 이월(N) - 임시테이블 전용
+ * - resltParam1 : 결과를 만든 실행 기준(param1) - 본 테이블 조회 전용
+ */
+@Getter
+@Setter
+public class RuleInputHashItem implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String svcContId;
+    private String ruleCd;
+    private String inputHash;
+    private String ruleVer;
+    private String evalYn;
+    private String resltParam1;
+
+    public RuleInputHashItem() {
+    }
+
+    public RuleInputHashItem(String svcContId, String ruleCd, String inputHash, String ruleVer, String evalYn) {
+        this.svcContId = svcContId;
+        this.ruleCd = ruleCd;
+        this.inputHash = inputHash;
+        this.ruleVer = ruleVer;
+        this.evalYn = evalYn;
+    }
+}
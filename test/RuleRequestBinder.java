@@ -0,0 +1,171 @@
+package com.abc.batch.job.test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.abc.batch.domain.PpWlessabcTxnItem;
+import com.innoexpert.rulesclient.Item;
+import com.innoexpert.rulesclient.RuleReq;
+
+/**
+ * 입력 객체 → RuleReq 항목 바인더
+ *
+ * - 룰 항목명 / 타입 / getter를 선언형 표로 1회 구성 (getter는 메서드 참조 → 리플렉션 / Map 조회 없음)
+ * - 바인딩 시 항목마다 addStringItem / addNumberItem 1회 + 건수만큼 add
+ * - 객체 생성 없이 동작하므로 RuleReq를 쓰레드마다 재사용 가능
+ * - fingerprint: 식별 항목(key)을 제외한 바인딩 값 연결 문자열 (같은 값이면 같은 룰 입력)
+ */
+public final class RuleRequestBinder<T> {
+
+    /**
+     * 파라미터 테이블 입력 건 (기존 setRuleRequestParams 설정 항목 17개)
+     *
+     * - 기존 코드도 이 17개 항목만 설정 ("나머지 필드들" 주석만 있고 WlessMabcQatCplyPerpProcessor 원본은 저장소에 없음)
+     *   → 원본 Processor에 이 외의 항목이 있었다면 여기에 빠져 있음, 확인 후 같은 형식으로 추가
+     * - fingerprint(RuleResultCache 키)도 이 항목만으로 구성 → 빠진 항목이 룰 입력이면 rule-call-memo 사용 금지
+     */
+    public static final RuleRequestBinder<PpWlessabcTxnItem> PP_WLESSABC_TXN = RuleRequestBinder.<PpWlessabcTxnItem>builder()
+        .string("base_date", PpWlessabcTxnItem::getBaseDate)
+        .string("wrkjob_ym", PpWlessabcTxnItem::getWrkjobYm)
+        .string("base_ym", PpWlessabcTxnItem::getBaseYm)
+        .key("svc_cont_id", PpWlessabcTxnItem::getSvcContId)
+        .string("ev_occ_dt", PpWlessabcTxnItem::getEvOccDt)
+        .string("sbsc_div_cd", PpWlessabcTxnItem::getSbscDivCd)
+        .string("svc_cont_div_cd", PpWlessabcTxnItem::getSvcContDivCd)
+        .string("chk_scope_val", PpWlessabcTxnItem::getWrkjobScope)
+        .string("adm_org_id", PpWlessabcTxnItem::getAdmOrgId)
+        .string("cpnt_id", PpWlessabcTxnItem::getCpntId)
+        .number("same_nfl_vqnt_circuit_cnt", PpWlessabcTxnItem::getSameNflVqntCircuitCnt)
+        .number("same_nfl_mysh_vqnt_circuit_cnt", PpWlessabcTxnItem::getSameNflMyshVqntCircuitCnt)
+        .string("cust_bthday_date", PpWlessabcTxnItem::getCustBthdayDate)
+        .string("crclt_sho_nflr_yn", PpWlessabcTxnItem::getCrcltShoNflrYn)
+        .string("new_icg_dt", PpWlessabcTxnItem::getNewIcgDt)
+        .number("npay_tmscnt", PpWlessabcTxnItem::getNpayTmscnt)
+        .number("npay_amt", PpWlessabcTxnItem::getNpayAmt)
+        .build();
+
+    private final Binding<T>[] bindings;
+
+    private RuleRequestBinder(Binding<T>[] bindings) {
+        this.bindings = bindings;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 1건 바인딩
+     */
+    public void bind(RuleReq req, T source) {
+        for (Binding<T> binding : bindings) {
+            binding.writer.write(binding.open(req), source);
+        }
+    }
+
+    /**
+     * N건 바인딩 (벌크 요청: 항목마다 건수만큼 값 추가, 순서 = sources 순서)
+     */
+    public void bind(RuleReq req, Iterable<? extends T> sources) {
+        for (Binding<T> binding : bindings) {
+            Item item = binding.open(req);
+            for (T source : sources) {
+                binding.writer.write(item, source);
+            }
+        }
+    }
+
+    /**
+     * 룰 입력 fingerprint (식별 항목 제외)
+     *
+     * - 값 구분자 0x1F, null은 0x00으로 표시 (빈 문자열과 구분)
+     */
+    public String fingerprint(T source) {
+
+        StringBuilder sb = new StringBuilder(bindings.length * 12);
+
+        for (Binding<T> binding : bindings) {
+            if (binding.key) {
+                continue;
+            }
+            Object value = binding.getter.apply(source);
+            sb.append(value == null ? "\u0000" : value.toString()).append('\u001F');
+        }
+
+        return sb.toString();
+    }
+
+    public int size() {
+        return bindings.length;
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter<T> {
+        void write(Item item, T source);
+    }
+
+    private static final class Binding<T> {
+
+        final String name;
+        final boolean number;
+        final boolean key;
+        final Function<? super T, ?> getter;
+        final ValueWriter<T> writer;
+
+        Binding(String name, boolean number, boolean key, Function<? super T, ?> getter, ValueWriter<T> writer) {
+            this.name = name;
+            this.number = number;
+            this.key = key;
+            this.getter = getter;
+            this.writer = writer;
+        }
+
+        Item open(RuleReq req) {
+            return number ? req.addNumberItem(name) : req.addStringItem(name);
+        }
+    }
+
+    /**
+     * 선언형 매핑 구성 (항목명 중복 시 예외)
+     */
+    public static final class Builder<T> {
+
+        private final List<Binding<T>> bindings = new ArrayList<>();
+        private final Set<String> names = new HashSet<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> string(String name, Function<? super T, String> getter) {
+            return add(new Binding<>(name, false, false, getter, (item, source) -> item.add(getter.apply(source))));
+        }
+
+        public Builder<T> number(String name, Function<? super T, BigDecimal> getter) {
+            return add(new Binding<>(name, true, false, getter, (item, source) -> item.add(getter.apply(source))));
+        }
+
+        /**
+         * 식별 항목 (문자열, fingerprint 제외)
+         */
+        public Builder<T> key(String name, Function<? super T, String> getter) {
+            return add(new Binding<>(name, false, true, getter, (item, source) -> item.add(getter.apply(source))));
+        }
+
+        private Builder<T> add(Binding<T> binding) {
+            if (!names.add(binding.name)) {
+                throw new IllegalStateException("룰 항목 중복 바인딩: " + binding.name);
+            }
+            bindings.add(binding);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public RuleRequestBinder<T> build() {
+            return new RuleRequestBinder<>(bindings.toArray(new Binding[0]));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.abc.batch.job.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.beans.BeanUtils;
+
+import com.abc.batch.domain.RuleWlessChkResltItem;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Job 실행 중 룰 결과 메모이제이션 캐시
+ *
+ * - 키 = 룰 코드 + batchExecDt + 룰 입력 fingerprint (svc_cont_id 제외)
+ * - 적중 시 저장된 결과를 복사하여 svcContId만 현재 건으로 바꿔서 반환 (룰 호출 생략)
+ * - 결과가 바인딩 항목에만 의존하는 룰 전제 (입력 건의 다른 값을 결과로 복사하는 룰에는 사용 금지)
+ *
+ * 메모리 제한:
+ * - 결과 행 수 기준 상한 (maxRows, 결과 없는 항목은 1행으로 계산), 16개 구간으로 나누어 구간마다 LRU 제거
+ * - Job 종료 시(afterJob) 전체 비움
+ *
+ * 메트릭 (파티션별):
+ * - wless.rule.memo.hits / wless.rule.memo.misses / wless.rule.memo.evictions
+ */
+@Slf4j
+public class RuleResultCache implements JobExecutionListener {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final String name;
+    private final long maxRows;
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    private final Map<String, PartitionStats> stats = new ConcurrentHashMap<>();
+
+    public RuleResultCache(String name, long maxRows) {
+        this.name = name;
+        this.maxRows = maxRows;
+
+        long rowsPerSegment = Math.max(1L, maxRows / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(rowsPerSegment);
+        }
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        clear();
+        stats.clear();
+        log.info("[RuleResultCache] {} 시작: maxRows={}", name, maxRows);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        stats.forEach((partitionKey, partitionStats) ->
+            log.info("[RuleResultCache] {} Partition {} 적중률: {}", name, partitionKey, partitionStats));
+        clear();
+    }
+
+    /**
+     * 캐시 키 생성
+     */
+    public static String key(String ruleCode, String batchExecDt, String fingerprint) {
+        return ruleCode + '\u001E' + batchExecDt + '\u001E' + fingerprint;
+    }
+
+    /**
+     * 조회 (적중 시 svcContId를 바꾼 복사본 반환, 미적중 시 null)
+     */
+    public List<RuleWlessChkResltItem> get(String partitionKey, String key, String svcContId) {
+
+        List<RuleWlessChkResltItem> cached = segmentFor(key).get(key);
+        PartitionStats partitionStats = statsFor(partitionKey);
+
+        if (cached == null) {
+            partitionStats.miss();
+            return null;
+        }
+
+        partitionStats.hit();
+
+        List<RuleWlessChkResltItem> rekeyed = new ArrayList<>(cached.size());
+        for (RuleWlessChkResltItem row : cached) {
+            rekeyed.add(copyOf(row, svcContId));
+        }
+        return rekeyed;
+    }
+
+    /**
+     * 룰 호출 결과 저장 (복사본 보관, 원본은 호출 측에서 그대로 사용)
+     */
+    public void put(String partitionKey, String key, List<RuleWlessChkResltItem> results) {
+
+        List<RuleWlessChkResltItem> copies = new ArrayList<>(results.size());
+        for (RuleWlessChkResltItem row : results) {
+            copies.add(copyOf(row, row.getSvcContId()));
+        }
+
+        int evicted = segmentFor(key).put(key, Collections.unmodifiableList(copies));
+        if (evicted > 0) {
+            statsFor(partitionKey).evicted(evicted);
+        }
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private static RuleWlessChkResltItem copyOf(RuleWlessChkResltItem row, String svcContId) {
+        RuleWlessChkResltItem copy = new RuleWlessChkResltItem();
+        BeanUtils.copyProperties(row, copy);
+        copy.setSvcContId(svcContId);
+        return copy;
+    }
+
+    private Segment segmentFor(String key) {
+        return segments[(key.hashCode() & 0x7fffffff) % SEGMENT_COUNT];
+    }
+
+    private PartitionStats statsFor(String partitionKey) {
+        return stats.computeIfAbsent(partitionKey, key -> new PartitionStats(name, key));
+    }
+
+    /**
+     * LRU 구간 (결과 행 수 상한)
+     */
+    private static class Segment {
+
+        private final long maxRows;
+        private final LinkedHashMap<String, List<RuleWlessChkResltItem>> entries = new LinkedHashMap<>(256, 0.75f, true);
+        private long rows;
+
+        Segment(long maxRows) {
+            this.maxRows = maxRows;
+        }
+
+        synchronized List<RuleWlessChkResltItem> get(String key) {
+            return entries.get(key);
+        }
+
+        /**
+         * @return 제거된 항목 수
+         */
+        synchronized int put(String key, List<RuleWlessChkResltItem> value) {
+
+            List<RuleWlessChkResltItem> previous = entries.put(key, value);
+            rows += weight(value) - (previous == null ? 0 : weight(previous));
+
+            int evicted = 0;
+            Iterator<List<RuleWlessChkResltItem>> eldest = entries.values().iterator();
+            while (rows > maxRows && eldest.hasNext()) {
+                List<RuleWlessChkResltItem> victim = eldest.next();
+                if (victim == value) {
+                    break;
+                }
+                rows -= weight(victim);
+                eldest.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        synchronized void clear() {
+            entries.clear();
+            rows = 0;
+        }
+
+        private static int weight(List<RuleWlessChkResltItem> value) {
+            return Math.max(1, value.size());
+        }
+    }
+
+    /**
+     * 파티션별 적중 / 미적중 / 제거 건수
+     */
+    private static class PartitionStats {
+
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+
+        private final Counter hitCounter;
+        private final Counter missCounter;
+        private final Counter evictionCounter;
+
+        PartitionStats(String job, String partitionKey) {
+            this.hitCounter = Metrics.counter("wless.rule.memo.hits", "job", job, "partition", partitionKey);
+            this.missCounter = Metrics.counter("wless.rule.memo.misses", "job", job, "partition", partitionKey);
+            this.evictionCounter = Metrics.counter("wless.rule.memo.evictions", "job", job, "partition", partitionKey);
+        }
+
+        void hit() {
+            hits.incrementAndGet();
+            hitCounter.increment();
+        }
+
+        void miss() {
+            misses.incrementAndGet();
+            missCounter.increment();
+        }
+
+        void evicted(int count) {
+            evictions.addAndGet(count);
+            evictionCounter.increment(count);
+        }
+
+        @Override
+        public String toString() {
+            long hit = hits.get();
+            long total = hit + misses.get();
+            return String.format("%.1f%% (hits=%d, misses=%d, evictions=%d)",
+                total == 0 ? 0d : hit * 100d / total, hit, misses.get(), evictions.get());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.abc.batch.job.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.abc.batch.domain.PpWlessabcTxnItem;
+import com.abc.batch.domain.RuleWlessChkResltItem;
+import com.innoexpert.rulesclient.Constants;
+import com.innoexpert.rulesclient.Item;
+import com.innoexpert.rulesclient.ResultSet;
+import com.innoexpert.rulesclient.ResultSetMetaData;
+import com.innoexpert.rulesclient.RulesException;
+
+/**
+ * 룰 결과 컬럼 → RuleWlessChkResltItem 매핑 계획 (룰 코드별 1회 생성)
+ *
+ * - 결과 컬럼 구성은 룰 코드마다 고정 → 첫 ResultSet의 메타데이터로 "컬럼 번호 → setter" 배열 구성
+ * - 이후 행 파싱은 배열 순회만 수행 (getMetaData / getColumnName / 컬럼명 비교 없음)
+ * - setter가 없는 컬럼은 건너뜀 (기존 mapResultToItem과 같이 Step은 계속 진행)
+ *   → 계획에 unmappedColumns로 남기고 WlessRuleEvaluator가 룰 코드별 1회 WARN
+ * - svcContId는 항상 원본 건 값으로 채움 (결과에 svc_cont_id 컬럼이 있으면 그 값으로 덮어씀)
+ */
+public final class RuleResultMappingPlan {
+
+    /**
+     * 결과 컬럼 1개 매핑
+     */
+    @FunctionalInterface
+    public interface ColumnSetter {
+        void set(RuleWlessChkResltItem target, Item value, PpWlessabcTxnItem source) throws RulesException;
+    }
+
+    // 벌크 결과 행을 원본 건에 배정하는 키 컬럼
+    public static final String KEY_COLUMN = "svc_cont_id";
+
+    // 결과 컬럼명(alias, 소문자) → setter (기본값, WlessRuleEvaluator.columnSetters로 교체 가능)
+    private static final Map<String, ColumnSetter> COLUMN_SETTERS;
+
+    static {
+        Map<String, ColumnSetter> setters = new HashMap<>();
+        setters.put(KEY_COLUMN, (target, value, source) -> target.setSvcContId(value.getString(0)));
+        COLUMN_SETTERS = Collections.unmodifiableMap(setters);
+    }
+
+    /**
+     * 매핑 등록 컬럼명 (로컬 StubRuleEngine 결과 스키마)
+     */
+    public static Set<String> registeredColumns() {
+        return COLUMN_SETTERS.keySet();
+    }
+
+    /**
+     * 기본 컬럼 setter (읽기 전용)
+     */
+    public static Map<String, ColumnSetter> defaultSetters() {
+        return COLUMN_SETTERS;
+    }
+
+    private final String ruleCode;
+    private final int[] columns;
+    private final ColumnSetter[] setters;
+    private final int keyColumn;
+    private final List<String> unmappedColumns;
+
+    private RuleResultMappingPlan(String ruleCode, int[] columns, ColumnSetter[] setters, int keyColumn,
+                                  List<String> unmappedColumns) {
+        this.ruleCode = ruleCode;
+        this.columns = columns;
+        this.setters = setters;
+        this.keyColumn = keyColumn;
+        this.unmappedColumns = unmappedColumns;
+    }
+
+    /**
+     * 결과 메타데이터로 매핑 계획 생성 (기본 setter)
+     */
+    public static RuleResultMappingPlan compile(String ruleCode, ResultSetMetaData rsmd) throws RulesException {
+        return compile(ruleCode, rsmd, COLUMN_SETTERS);
+    }
+
+    /**
+     * 결과 메타데이터로 매핑 계획 생성
+     *
+     * @param columnSetters 결과 컬럼명(소문자) → setter, 없는 컬럼은 건너뜀
+     */
+    public static RuleResultMappingPlan compile(String ruleCode, ResultSetMetaData rsmd,
+                                                Map<String, ColumnSetter> columnSetters) throws RulesException {
+
+        int iColCnt = rsmd.getColumnCount();
+        List<Integer> columns = new ArrayList<>(iColCnt);
+        List<ColumnSetter> setters = new ArrayList<>(iColCnt);
+        List<String> unmapped = new ArrayList<>();
+        int keyColumn = 0;
+
+        for (int i = 1; i <= iColCnt; i++) {
+            String colNm = rsmd.getColumnName(i, Constants.CODETYPE_ALIAS).toLowerCase();
+
+            if (KEY_COLUMN.equals(colNm)) {
+                keyColumn = i;
+            }
+
+            ColumnSetter setter = columnSetters.get(colNm);
+            if (setter == null) {
+                unmapped.add(colNm);
+                continue;
+            }
+
+            columns.add(i);
+            setters.add(setter);
+        }
+
+        return new RuleResultMappingPlan(ruleCode,
+            columns.stream().mapToInt(Integer::intValue).toArray(),
+            setters.toArray(new ColumnSetter[0]),
+            keyColumn,
+            Collections.unmodifiableList(unmapped));
+    }
+
+    /**
+     * 현재 행 1개 매핑
+     */
+    public RuleWlessChkResltItem map(ResultSet rs, PpWlessabcTxnItem source) throws RulesException {
+
+        RuleWlessChkResltItem rstItem = new RuleWlessChkResltItem();
+        rstItem.setSvcContId(source.getSvcContId());
+
+        for (int k = 0; k < columns.length; k++) {
+            setters[k].set(rstItem, rs.getItem(columns[k]), source);
+        }
+
+        return rstItem;
+    }
+
+    /**
+     * 현재 행의 키 컬럼 값 (벌크 결과 배정용)
+     */
+    public String key(ResultSet rs) throws RulesException {
+        if (keyColumn == 0) {
+            throw new IllegalStateException("벌크 결과에 " + KEY_COLUMN + " 컬럼이 없음 (벡터 입력 룰이 아님): ruleCode=" + ruleCode);
+        }
+        return rs.getItem(keyColumn).getString(0);
+    }
+
+    /**
+     * setter가 없어 건너뛰는 결과 컬럼
+     */
+    public List<String> getUnmappedColumns() {
+        return unmappedColumns;
+    }
+
+    @Override
+    public String toString() {
+        return "ruleCode=" + ruleCode + ", 매핑 컬럼=" + columns.length + ", 미매핑 컬럼=" + unmappedColumns;
+    }
+}
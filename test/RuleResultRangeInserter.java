@@ -0,0 +1,255 @@
+package com.abc.batch.job.test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BrmsInsertStep 결과 본테이블 인서트를 svcContId 범위로 나눠 병렬 수행 (본테이블 반영은 한 트랜잭션)
+ *
+ * - boundsStatement로 결과 임시테이블의 svcContId 경계(rangeCount - 1개) 조회 → [keyFrom, keyTo) 범위
+ *   (keyFrom / keyTo가 null이면 열린 범위)
+ * - 경계는 쿼리의 ORDER BY 순서 그대로 사용, 연속 중복만 제거 (Java 문자열 순서로 다시 정렬하지 않음
+ *   → 범위 비교와 같은 DB 정렬 규칙 유지, 순서가 달라져 범위가 비거나 겹치지 않음)
+ *
+ * 처리 순서:
+ * 1. stagingCreateStatement: 본테이블 복사본(staging) 생성 (이전 실행 잔여분은 stagingDropStatement로 먼저 정리)
+ * 2. insertStatement       : 범위마다 별도 SqlSession으로 staging에 인서트, parallelism개 동시 실행 (범위별 커밋)
+ * 3. publishStatement      : staging → 본테이블 INSERT ... SELECT + staging 드랍을 한 트랜잭션으로 커밋
+ *
+ * - 본테이블은 3단계 커밋 한 번으로만 바뀜 → 전부 반영되거나 아무것도 반영되지 않음
+ * - 2단계 실패 / 3단계 실패 시 본테이블 변경 없음, staging 드랍 후 Step 실패
+ * - 커밋 / 롤백은 세션 커넥션에서 직접 (Spring 관리 트랜잭션의 SqlSession.commit은 풀의 autoCommit 설정을 따름)
+ * - 범위별 건수 / 소요시간 로그, wless.brms.insert.range 타이머, 반영 소요시간 wless.brms.insert.publish 타이머
+ *
+ * 비용: 결과를 staging과 본테이블에 두 번 씀 (범위 인서트의 조인 / 변환은 병렬, 본테이블 반영은 단순 복사 1회)
+ */
+@Slf4j
+public class RuleResultRangeInserter {
+
+    private final String name;
+    private final SqlSessionFactory sqlSessionFactory;
+    private final String boundsStatement;
+    private final String stagingCreateStatement;
+    private final String insertStatement;
+    private final String publishStatement;
+    private final String stagingDropStatement;
+    private final int parallelism;
+
+    private final Timer rangeTimer;
+    private final Timer publishTimer;
+
+    public RuleResultRangeInserter(String name, SqlSessionFactory sqlSessionFactory,
+                                   String boundsStatement,
+                                   String stagingCreateStatement,
+                                   String insertStatement,
+                                   String publishStatement,
+                                   String stagingDropStatement,
+                                   int parallelism) {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism은 1 이상: " + parallelism);
+        }
+
+        this.name = name;
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.boundsStatement = boundsStatement;
+        this.stagingCreateStatement = stagingCreateStatement;
+        this.insertStatement = insertStatement;
+        this.publishStatement = publishStatement;
+        this.stagingDropStatement = stagingDropStatement;
+        this.parallelism = parallelism;
+
+        this.rangeTimer = Timer.builder("wless.brms.insert.range")
+            .tags("job", name)
+            .register(Metrics.globalRegistry);
+        this.publishTimer = Timer.builder("wless.brms.insert.publish")
+            .tags("job", name)
+            .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * 범위별 병렬 staging 인서트 → 본테이블 한 트랜잭션 반영
+     *
+     * @return 본테이블 인서트 건수
+     */
+    public int insert(Map<String, String> srchMap) throws Exception {
+
+        List<Range> ranges = ranges(srchMap);
+        log.info("[RuleResultRangeInserter] {} 범위 {}개, 병렬 {}", name, ranges.size(), parallelism);
+
+        Map<String, Object> params = new HashMap<>(srchMap);
+        transaction(params, stagingDropStatement, stagingCreateStatement);
+
+        try {
+            insertRanges(ranges, srchMap);
+
+            long start = System.currentTimeMillis();
+            int published = transaction(params, publishStatement, stagingDropStatement)[0];
+            long elapsed = System.currentTimeMillis() - start;
+            publishTimer.record(elapsed, TimeUnit.MILLISECONDS);
+
+            int staged = 0;
+            for (Range range : ranges) {
+                log.info("[RuleResultRangeInserter] {} {}: {}건, {}ms", name, range, range.rows, range.elapsedMillis);
+                staged += range.rows;
+            }
+            log.info("[RuleResultRangeInserter] {} 완료: staging {}건 → 본테이블 {}건 ({}ms)", name, staged, published, elapsed);
+            return published;
+
+        } catch (Exception e) {
+            dropStaging(params);
+            throw e;
+        }
+    }
+
+    private void insertRanges(List<Range> ranges, Map<String, String> srchMap) throws Exception {
+
+        AtomicInteger threadNo = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, ranges.size()), r -> {
+            Thread thread = new Thread(r, name + "-brms-insert-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<Void>> futures = new ArrayList<>(ranges.size());
+            for (Range range : ranges) {
+                futures.add(executor.submit(() -> {
+                    execute(range, srchMap);
+                    return null;
+                }));
+            }
+
+            Exception failure = null;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (Exception e) {
+                    log.error("[RuleResultRangeInserter] {} 범위 {} 인서트 실패", name, ranges.get(i), e);
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+
+            if (failure != null) {
+                throw new IllegalStateException("[RuleResultRangeInserter] " + name + " 범위 인서트 실패 → 본테이블 미반영", failure);
+            }
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Range> ranges(Map<String, String> srchMap) {
+
+        Map<String, Object> params = new HashMap<>(srchMap);
+        params.put("rangeCount", parallelism);
+
+        // 쿼리 정렬 순서 유지, 연속 중복만 제거 (같은 svcContId가 경계 여러 개면 빈 범위 생략)
+        List<String> bounds = new ArrayList<>();
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            List<String> rows = session.selectList(boundsStatement, params);
+            for (String bound : rows) {
+                if (bound != null && (bounds.isEmpty() || !bound.equals(bounds.get(bounds.size() - 1)))) {
+                    bounds.add(bound);
+                }
+            }
+        }
+
+        List<Range> ranges = new ArrayList<>(bounds.size() + 1);
+        String from = null;
+        for (String bound : bounds) {
+            ranges.add(new Range(ranges.size(), from, bound));
+            from = bound;
+        }
+        ranges.add(new Range(ranges.size(), from, null));
+        return ranges;
+    }
+
+    private void execute(Range range, Map<String, String> srchMap) throws SQLException {
+
+        Map<String, Object> params = new HashMap<>(srchMap);
+        params.put("keyFrom", range.keyFrom);
+        params.put("keyTo", range.keyTo);
+
+        long start = System.currentTimeMillis();
+
+        range.rows = transaction(params, insertStatement)[0];
+
+        range.elapsedMillis = System.currentTimeMillis() - start;
+        rangeTimer.record(range.elapsedMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * statement들을 한 세션 커넥션의 한 트랜잭션으로 실행 (실패 시 롤백)
+     *
+     * @return statement별 반영 건수
+     */
+    private int[] transaction(Map<String, Object> params, String... statements) throws SQLException {
+
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            Connection conn = session.getConnection();
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                int[] counts = new int[statements.length];
+                for (int i = 0; i < statements.length; i++) {
+                    counts[i] = session.update(statements[i], params);
+                }
+                conn.commit();
+                return counts;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private void dropStaging(Map<String, Object> params) {
+        try {
+            transaction(params, stagingDropStatement);
+        } catch (SQLException | RuntimeException e) {
+            log.warn("[RuleResultRangeInserter] {} staging 드랍 실패 (다음 실행에서 정리)", name, e);
+        }
+    }
+
+    private static final class Range {
+
+        private final int index;
+        private final String keyFrom;
+        private final String keyTo;
+
+        private volatile int rows;
+        private volatile long elapsedMillis;
+
+        Range(int index, String keyFrom, String keyTo) {
+            this.index = index;
+            this.keyFrom = keyFrom;
+            this.keyTo = keyTo;
+        }
+
+        @Override
+        public String toString() {
+            return "range " + index + " [" + (keyFrom != null ? keyFrom : "") + ", " + (keyTo != null ? keyTo : "") + ")";
+        }
+    }
+}
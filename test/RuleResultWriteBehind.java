@@ -0,0 +1,337 @@
+package com.abc.batch.job.test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+import com.abc.batch.domain.RuleWlessChkResltItem;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 룰 결과 write-behind (룰 호출 쓰레드에서 저장 분리)
+ *
+ * - submit(): 결과를 bounded 버퍼에 넣고 바로 반환 → 룰엔진 호출이 저장을 기다리지 않음
+ *   버퍼(capacityRows)가 가득 차면 대기 (backpressure)
+ * - 전용 쓰레드(writerThreads개)가 flushRows건 모이거나 flushMillis 경과 시 BulkLoadStrategy로 적재
+ *   (적재 테이블별로 묶어서 적재 - 파티션별 staging 테이블 사용 시 테이블마다 1회)
+ *   → 저장은 Step 트랜잭션과 분리된 별도 커넥션에서 배치 단위 커밋
+ * - 적재 실패: 최초 실패를 보관, 이후 submit / awaitPartition / flush에서 예외 → 해당 Step 실패
+ *   (실패 이후 버퍼의 결과는 적재하지 않고 버림)
+ * - awaitPartition(): 파티션 결과 적재 완료까지 대기 (Tasklet 종료 시)
+ * - flush(): 전체 결과 적재 완료까지 대기 (BrmsInsertStep 시작 시 → 임시테이블에 모든 결과가 있는 상태로 본 테이블 인서트)
+ *
+ * Job 시작 시(beforeJob) 상태 초기화, 첫 submit에서 쓰레드 기동, Job 종료 시(afterJob) 정리
+ */
+@Slf4j
+public class RuleResultWriteBehind implements JobExecutionListener {
+
+    // 쓰레드 종료 대기 시간 (분)
+    private static final int SHUTDOWN_TIMEOUT_MINUTES = 10;
+
+    // 버퍼 / 적재 대기 중 실패 여부 확인 주기 (ms)
+    private static final long WAIT_POLL_MILLIS = 1000L;
+
+    private final String name;
+    private final BulkLoadStrategy loader;
+    private final Set<String> excludeFields;
+    private final Map<String, Object> fixedValues;
+    private final int writerThreads;
+    private final int capacityRows;
+    private final int flushRows;
+    private final long flushMillis;
+
+    private final Timer flushTimer;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Map<String, AtomicLong> pendingRows = new ConcurrentHashMap<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final AtomicLong writtenRows = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final Object progress = new Object();
+
+    private volatile Semaphore capacity;
+    private List<Thread> writers = new ArrayList<>();
+    private volatile boolean running;
+
+    public RuleResultWriteBehind(String name, BulkLoadStrategy loader, Set<String> excludeFields,
+                                 Map<String, Object> fixedValues, int writerThreads, int capacityRows,
+                                 int flushRows, long flushMillis) {
+
+        if (writerThreads < 1 || flushRows < 1 || capacityRows < flushRows || flushMillis < 1) {
+            throw new IllegalArgumentException("write-behind 설정 오류: threads=" + writerThreads
+                + ", capacity=" + capacityRows + ", flushRows=" + flushRows + ", flushMillis=" + flushMillis);
+        }
+
+        this.name = name;
+        this.loader = loader;
+        this.excludeFields = excludeFields;
+        this.fixedValues = fixedValues;
+        this.writerThreads = writerThreads;
+        this.capacityRows = capacityRows;
+        this.flushRows = flushRows;
+        this.flushMillis = flushMillis;
+        this.capacity = new Semaphore(capacityRows, true);
+
+        this.flushTimer = Timer.builder("wless.writebehind.flush")
+            .tags("job", name)
+            .publishPercentiles(0.99)
+            .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public synchronized void beforeJob(JobExecution jobExecution) {
+        queue.clear();
+        pendingRows.clear();
+        failure.set(null);
+        writtenRows.set(0);
+        flushes.set(0);
+        capacity = new Semaphore(capacityRows, true);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED && failure.get() == null && totalPending() > 0) {
+            // BrmsInsertStep 이후 남은 결과가 있으면 안 됨 (flush 누락)
+            log.warn("[RuleResultWriteBehind] {} Job 종료 시 미적재 결과 있음: {}건", name, totalPending());
+        }
+
+        shutdown();
+        log.info("[RuleResultWriteBehind] {} 종료: 적재={}건, flush={}회, 실패={}",
+            name, writtenRows.get(), flushes.get(), failure.get() != null);
+    }
+
+    /**
+     * 결과 적재 요청 (버퍼가 가득 차면 대기, 요청 후 results 변경 금지)
+     *
+     * @throws IllegalStateException 이전 적재가 실패한 경우
+     */
+    public void submit(String partitionKey, String table, List<RuleWlessChkResltItem> results)
+            throws InterruptedException {
+
+        checkFailure();
+        if (results.isEmpty()) {
+            return;
+        }
+        start();
+
+        // 한 번에 capacityRows보다 많이 넣으면 영원히 대기하므로 상한
+        int permits = Math.min(results.size(), capacityRows);
+        Semaphore current = capacity;
+        while (!current.tryAcquire(permits, WAIT_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            checkFailure();
+        }
+
+        pendingRows.computeIfAbsent(partitionKey, k -> new AtomicLong()).addAndGet(results.size());
+        queue.add(new Pending(partitionKey, table, results, permits, current));
+    }
+
+    /**
+     * 파티션 결과 적재 완료까지 대기
+     */
+    public void awaitPartition(String partitionKey) throws InterruptedException {
+        AtomicLong pending = pendingRows.get(partitionKey);
+        awaitUntilWritten(pending != null ? pending::get : () -> 0L);
+        log.info("[RuleResultWriteBehind] {} Partition {} 결과 적재 완료", name, partitionKey);
+    }
+
+    /**
+     * 전체 결과 적재 완료까지 대기 (BrmsInsertStep 시작 시)
+     */
+    public void flush() throws InterruptedException {
+        awaitUntilWritten(this::totalPending);
+        log.info("[RuleResultWriteBehind] {} 전체 결과 적재 완료: {}건, flush={}회", name, writtenRows.get(), flushes.get());
+    }
+
+    private void awaitUntilWritten(LongSupplier pending) throws InterruptedException {
+
+        requestFlush();
+        synchronized (progress) {
+            while (pending.getAsLong() > 0) {
+                checkFailure();
+                progress.wait(WAIT_POLL_MILLIS);
+            }
+        }
+        checkFailure();
+    }
+
+    private long totalPending() {
+        long total = 0;
+        for (AtomicLong pending : pendingRows.values()) {
+            total += pending.get();
+        }
+        return total;
+    }
+
+    private void checkFailure() {
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw new IllegalStateException("[RuleResultWriteBehind] " + name + " 결과 적재 실패", cause);
+        }
+    }
+
+    /**
+     * 대기 중인 결과를 시간 조건과 무관하게 바로 적재 (쓰레드마다 표시 1개)
+     */
+    private synchronized void requestFlush() {
+        if (!running) {
+            return;
+        }
+        for (int i = 0; i < writerThreads; i++) {
+            queue.add(Pending.FLUSH);
+        }
+    }
+
+    private synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writers = new ArrayList<>(writerThreads);
+        for (int i = 1; i <= writerThreads; i++) {
+            Thread thread = new Thread(this::writeLoop, name + "-write-behind-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            writers.add(thread);
+        }
+        log.info("[RuleResultWriteBehind] {} 시작: threads={}, capacity={}건, flushRows={}, flushMillis={}",
+            name, writerThreads, capacityRows, flushRows, flushMillis);
+    }
+
+    private synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Thread writer : writers) {
+            writer.interrupt();
+        }
+        for (Thread writer : writers) {
+            try {
+                writer.join(TimeUnit.MINUTES.toMillis(SHUTDOWN_TIMEOUT_MINUTES));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        writers.clear();
+        queue.clear();
+    }
+
+    /**
+     * 적재 쓰레드: flushRows건 또는 첫 건 수신 후 flushMillis 경과 시 적재
+     */
+    private void writeLoop() {
+
+        List<Pending> batch = new ArrayList<>();
+        int batchRows = 0;
+        long deadline = 0L;
+
+        while (running) {
+            try {
+                long waitMillis = batch.isEmpty() ? WAIT_POLL_MILLIS : Math.max(0L, deadline - System.currentTimeMillis());
+                Pending next = queue.poll(waitMillis, TimeUnit.MILLISECONDS);
+
+                if (next != null && next != Pending.FLUSH) {
+                    if (batch.isEmpty()) {
+                        deadline = System.currentTimeMillis() + flushMillis;
+                    }
+                    batch.add(next);
+                    batchRows += next.results.size();
+                }
+
+                boolean due = batchRows >= flushRows || next == Pending.FLUSH
+                    || (!batch.isEmpty() && System.currentTimeMillis() >= deadline);
+
+                if (due && !batch.isEmpty()) {
+                    write(batch, batchRows);
+                    batch = new ArrayList<>();
+                    batchRows = 0;
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+
+        // 종료 시 남은 결과는 적재하지 않음 (정상 흐름에서는 BrmsInsertStep의 flush로 이미 비어 있음)
+        release(batch);
+    }
+
+    private void write(List<Pending> batch, int batchRows) {
+
+        if (failure.get() != null) {
+            release(batch);
+            return;
+        }
+
+        Map<String, List<RuleWlessChkResltItem>> rowsByTable = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            rowsByTable.computeIfAbsent(pending.table, k -> new ArrayList<>()).addAll(pending.results);
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            for (Map.Entry<String, List<RuleWlessChkResltItem>> entry : rowsByTable.entrySet()) {
+                loader.load(entry.getKey(), entry.getValue(), excludeFields, fixedValues);
+                writtenRows.addAndGet(entry.getValue().size());
+                log.debug("[RuleResultWriteBehind] {} 적재: {} {}건", name, entry.getKey(), entry.getValue().size());
+            }
+            flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            flushes.incrementAndGet();
+        } catch (Throwable e) {
+            // 쓰레드가 죽으면 대기 중인 Step이 풀리지 않으므로 Error도 실패로 기록
+            log.error("[RuleResultWriteBehind] {} 적재 실패: {}건", name, batchRows, e);
+            failure.compareAndSet(null, e);
+        } finally {
+            release(batch);
+        }
+    }
+
+    private void release(List<Pending> batch) {
+        for (Pending pending : batch) {
+            pendingRows.get(pending.partitionKey).addAndGet(-pending.results.size());
+            pending.capacity.release(pending.permits);
+        }
+        synchronized (progress) {
+            progress.notifyAll();
+        }
+    }
+
+    private static final class Pending {
+
+        // 즉시 적재 요청 표시
+        static final Pending FLUSH = new Pending(null, null, new ArrayList<>(), 0, null);
+
+        final String partitionKey;
+        final String table;
+        final List<RuleWlessChkResltItem> results;
+        final int permits;
+        final Semaphore capacity;
+
+        Pending(String partitionKey, String table, List<RuleWlessChkResltItem> results, int permits,
+                Semaphore capacity) {
+            this.partitionKey = partitionKey;
+            this.table = table;
+            this.results = results;
+            this.permits = permits;
+            this.capacity = capacity;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.abc.batch.job.test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분할 임시테이블 수 / 테이블당 건수(skipCount) 산정
+ *
+ * 테이블당 건수 상한 = 아래 중 가장 작은 값
+ * - maxRowsPerTable (기존 고정 skipCount 200000)
+ * - maxTableBytes / 행 크기 (전처리 타겟 임시테이블 pg_relation_size / fullCount)
+ * - targetTableMillis / 건당 처리시간 (이전 실행 StepManager 기준, 파티션 쓰레드 ms/건)
+ *
+ * 분할:
+ * - 테이블 수는 pool_size의 배수 (fullCount가 pool_size 이상일 때) → 파티션마다 같은 테이블 수
+ * - skipCount = ceil(fullCount / 테이블 수) → 마지막 테이블도 다른 테이블과 거의 같은 크기
+ *
+ * 건당 처리시간 이력 (지수 평균, JVM 재시작과 무관):
+ * - plan()에서 fullCount / 이번에 사용한 이력 값을 JobExecutionContext에 저장 (PreStep 종료 시 JobRepository에 반영)
+ * - beforeJob에서 JobExplorer로 직전 실행(이번 실행 제외, 최근 HISTORY_LOOKBACK개 JobInstance)을 찾아
+ *   그 실행의 이력 값 + StepManager 소요시간 / fullCount로 이력 갱신
+ * - 직전 실행의 StepManager가 완료되지 않았으면 그 실행의 이력 값 그대로 사용
+ */
+@Slf4j
+public class SplitTablePlanner implements JobExecutionListener {
+
+    // 이력 지수 평균 가중치 (이번 실행)
+    private static final double HISTORY_WEIGHT = 0.3;
+
+    // 직전 실행을 찾을 최근 JobInstance 수
+    private static final int HISTORY_LOOKBACK = 10;
+
+    // JobExecutionContext 키
+    private static final String FULL_COUNT_KEY = "splitTableFullCount";
+    private static final String PER_ROW_MILLIS_KEY = "splitTablePerRowMillis";
+
+    private final String name;
+    private final DataSource dataSource;
+    private final JobExplorer jobExplorer;
+    private final int poolSize;
+    private final int maxRowsPerTable;
+    private final long maxTableBytes;
+    private final long targetTableMillis;
+
+    // 파티션 쓰레드 기준 건당 처리시간 (ms, 0이면 이력 없음)
+    private volatile double perRowMillis;
+
+    private volatile Plan lastPlan;
+
+    private volatile JobExecution currentExecution;
+
+    public SplitTablePlanner(String name, DataSource dataSource, JobExplorer jobExplorer, int poolSize,
+                             int maxRowsPerTable, long maxTableBytes, long targetTableMillis) {
+
+        if (poolSize < 1 || maxRowsPerTable < 1) {
+            throw new IllegalArgumentException("poolSize / maxRowsPerTable은 1 이상: " + poolSize + " / " + maxRowsPerTable);
+        }
+
+        this.name = name;
+        this.dataSource = dataSource;
+        this.jobExplorer = jobExplorer;
+        this.poolSize = poolSize;
+        this.maxRowsPerTable = maxRowsPerTable;
+        this.maxTableBytes = maxTableBytes;
+        this.targetTableMillis = targetTableMillis;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        lastPlan = null;
+        currentExecution = jobExecution;
+        perRowMillis = loadHistory(jobExecution);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+
+        Plan plan = lastPlan;
+        if (plan == null || plan.fullCount == 0) {
+            return;
+        }
+
+        // 이력 반영은 다음 실행 beforeJob에서 (afterJob 변경은 JobExecutionContext에 저장되지 않음)
+        Double observed = observedPerRowMillis(jobExecution, plan.fullCount);
+        if (observed != null) {
+            log.info("[SplitTablePlanner] {} 건당 처리시간: 이번 {}ms, 이력 {}ms ({}건)",
+                name, String.format("%.4f", observed), String.format("%.4f", plan.perRowMillis), plan.fullCount);
+        }
+    }
+
+    /**
+     * 직전 실행의 이력 값 + StepManager 건당 처리시간으로 이력 산정 (없으면 0)
+     */
+    private double loadHistory(JobExecution jobExecution) {
+
+        try {
+            for (JobInstance instance : jobExplorer.getJobInstances(jobExecution.getJobInstance().getJobName(), 0, HISTORY_LOOKBACK)) {
+
+                JobExecution previous = null;
+                for (JobExecution execution : jobExplorer.getJobExecutions(instance)) {
+                    if (execution.getId().equals(jobExecution.getId())
+                            || !execution.getExecutionContext().containsKey(FULL_COUNT_KEY)) {
+                        continue;
+                    }
+                    if (previous == null || execution.getId() > previous.getId()) {
+                        previous = execution;
+                    }
+                }
+                if (previous == null) {
+                    continue;
+                }
+
+                double history = previous.getExecutionContext().getDouble(PER_ROW_MILLIS_KEY, 0d);
+                Double observed = observedPerRowMillis(previous, previous.getExecutionContext().getInt(FULL_COUNT_KEY, 0));
+                if (observed != null) {
+                    history = history > 0 ? history * (1 - HISTORY_WEIGHT) + observed * HISTORY_WEIGHT : observed;
+                }
+
+                log.info("[SplitTablePlanner] {} 건당 처리시간 이력 {}ms (직전 실행 {}: {}ms)",
+                    name, String.format("%.4f", history), previous.getId(),
+                    observed != null ? String.format("%.4f", observed) : "StepManager 미완료");
+                return history;
+            }
+        } catch (RuntimeException e) {
+            log.warn("[SplitTablePlanner] {} 실행 이력 조회 실패 → 이력 없이 분할", name, e);
+        }
+        return 0d;
+    }
+
+    /**
+     * StepManager 완료 시 파티션 쓰레드 기준 건당 처리시간 (ms, 없으면 null)
+     */
+    private Double observedPerRowMillis(JobExecution execution, int fullCount) {
+
+        if (fullCount <= 0) {
+            return null;
+        }
+
+        for (StepExecution step : execution.getStepExecutions()) {
+            if (!step.getStepName().endsWith("StepManager") || step.getStatus() != BatchStatus.COMPLETED
+                || step.getStartTime() == null || step.getEndTime() == null) {
+                continue;
+            }
+
+            long elapsed = step.getEndTime().getTime() - step.getStartTime().getTime();
+            return (double) elapsed * poolSize / fullCount;
+        }
+        return null;
+    }
+
+    /**
+     * PreStep: 전처리 타겟 임시테이블 생성 직후 호출
+     *
+     * @param table 전처리 타겟 임시테이블 (행 크기 산정)
+     */
+    public Plan plan(int fullCount, String table) {
+
+        JobExecution execution = currentExecution;
+        if (execution != null) {
+            execution.getExecutionContext().putInt(FULL_COUNT_KEY, Math.max(0, fullCount));
+            execution.getExecutionContext().putDouble(PER_ROW_MILLIS_KEY, perRowMillis);
+        }
+
+        if (fullCount <= 0) {
+            Plan plan = new Plan(0, 0, maxRowsPerTable, 0L, perRowMillis, "empty");
+            lastPlan = plan;
+            return plan;
+        }
+
+        long rowBytes = averageRowBytes(table, fullCount);
+        double cost = perRowMillis;
+
+        long rowsCap = maxRowsPerTable;
+        String limit = "max-rows";
+        if (rowBytes > 0 && maxTableBytes > 0 && maxTableBytes / rowBytes < rowsCap) {
+            rowsCap = maxTableBytes / rowBytes;
+            limit = "bytes";
+        }
+        if (cost > 0 && targetTableMillis > 0 && (long) (targetTableMillis / cost) < rowsCap) {
+            rowsCap = (long) (targetTableMillis / cost);
+            limit = "cost";
+        }
+        rowsCap = Math.max(1L, rowsCap);
+
+        int tableCount = (int) ceilDiv(fullCount, rowsCap);
+
+        // 파티션 수의 배수 → 파티션마다 같은 테이블 수
+        if (fullCount >= poolSize) {
+            tableCount = (int) ceilDiv(tableCount, poolSize) * poolSize;
+        }
+
+        int skipCount = (int) ceilDiv(fullCount, tableCount);
+        // 건수가 적으면 뒤쪽 테이블이 비지 않도록 다시 계산
+        tableCount = (int) ceilDiv(fullCount, skipCount);
+
+        Plan plan = new Plan(fullCount, tableCount, skipCount, rowBytes, cost, limit);
+        lastPlan = plan;
+
+        log.info("[SplitTablePlanner] {} 분할 계획: {} (pool_size={}, 파티션당 테이블 {})",
+            name, plan, poolSize, String.format("%.1f", (double) tableCount / poolSize));
+        return plan;
+    }
+
+    /**
+     * 행 크기 (byte, 조회 실패 시 0)
+     * - 같은 Step 트랜잭션의 커넥션 사용 → 커밋 전 생성된 테이블도 조회
+     */
+    private long averageRowBytes(String table, int fullCount) {
+
+        Connection conn = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement ps = conn.prepareStatement("SELECT pg_relation_size(?::regclass)")) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? Math.max(0L, rs.getLong(1) / fullCount) : 0L;
+            }
+        } catch (SQLException e) {
+            log.warn("[SplitTablePlanner] {} {} 크기 조회 실패 → 건수 기준으로만 분할", name, table, e);
+            return 0L;
+        } finally {
+            DataSourceUtils.releaseConnection(conn, dataSource);
+        }
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return (x + y - 1) / y;
+    }
+
+    @Getter
+    public static final class Plan {
+
+        private final int fullCount;
+        private final int tableCount;
+        private final int skipCount;
+        private final long rowBytes;
+        private final double perRowMillis;
+        // 테이블당 건수를 정한 기준 (max-rows / bytes / cost)
+        private final String limit;
+
+        Plan(int fullCount, int tableCount, int skipCount, long rowBytes, double perRowMillis, String limit) {
+            this.fullCount = fullCount;
+            this.tableCount = tableCount;
+            this.skipCount = skipCount;
+            this.rowBytes = rowBytes;
+            this.perRowMillis = perRowMillis;
+            this.limit = limit;
+        }
+
+        public int lastTableRows() {
+            return tableCount == 0 ? 0 : fullCount - (tableCount - 1) * skipCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("fullCount=%d, tableCount=%d, skipCount=%d, lastTableRows=%d, rowBytes=%d, perRowMillis=%.4f, limit=%s",
+                fullCount, tableCount, skipCount, lastTableRows(), rowBytes, perRowMillis, limit);
+        }
+    }
+}
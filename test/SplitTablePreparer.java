@@ -0,0 +1,211 @@
+package com.abc.batch.job.test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import com.abc.batch.mapper.WlessPartiMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분할 임시테이블(TMP_PP_WLESS_abc_TXN_{n} / JOIN_CALSUM_{n}) DROP / 생성을 테이블 단위로 병렬 수행
+ *
+ * - 테이블 번호별 작업은 서로 독립 (번호 안에서는 분할 테이블 → JOIN_CALSUM 순서 유지)
+ * - parallelism이 1이면 호출 쓰레드에서 순차 수행 (기존과 동일)
+ * - PreStep DROP 대상은 카탈로그(pg_class)에서 이름 패턴으로 조회 → 이전 실행의 테이블 수와 무관하게 모두 DROP
+ * - 병렬 작업은 쓰레드별 커넥션에서 자동 커밋 → 원본 테이블이 커밋된 뒤에 호출 (PartitionTableStep)
+ *
+ * 실패 처리:
+ * - 실패해도 나머지 작업은 끝까지 기다림 (진행 중인 DDL과 정리가 겹치지 않음)
+ * - 생성 실패 시 카탈로그에 있는 분할 테이블 전체 DROP 후 예외
+ *   (병렬 생성분은 자동 커밋되어 조회됨, 순차 생성분은 Step 트랜잭션 롤백으로 사라짐)
+ * - 예외는 가장 작은 테이블 번호의 실패, 나머지는 suppressed
+ */
+@Slf4j
+public class SplitTablePreparer {
+
+    private static final String SCHEMA = "abcbat";
+
+    // TMP_PP_WLESS_abc_TXN_{n} / TMP_PP_WLESS_abc_TXN_JOIN_CALSUM_{n} (pg_class relname은 소문자)
+    private static final String SPLIT_TABLE_PATTERN = "^tmp_pp_wless_abc_txn_(join_calsum_)?[0-9]+$";
+    private static final Pattern TABLE_NUMBER = Pattern.compile("_([0-9]+)$");
+
+    private final String name;
+    private final DataSource dataSource;
+    private final WlessPartiMapper wlessMapper;
+    private final int parallelism;
+
+    public SplitTablePreparer(String name, DataSource dataSource, WlessPartiMapper wlessMapper, int parallelism) {
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism은 1 이상: " + parallelism);
+        }
+
+        this.name = name;
+        this.dataSource = dataSource;
+        this.wlessMapper = wlessMapper;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 카탈로그에 있는 분할 임시테이블 전체 DROP (PreStep)
+     */
+    public void dropAll() throws Exception {
+
+        long start = System.currentTimeMillis();
+
+        List<Integer> tableNumbers = existingTableNumbers();
+        runAll(tableNumbers, "DROP", this::drop);
+
+        log.info("[SplitTablePreparer] {} 분할 임시테이블 DROP {}개 (카탈로그 조회): {}ms",
+            name, tableNumbers.size(), System.currentTimeMillis() - start);
+    }
+
+    private void drop(int tableNumber) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("tableNumber", tableNumber);
+        wlessMapper.dropTmpPpabcPartition(params);
+        wlessMapper.dropTmpPpabcJoinCalsumPartition(params);
+    }
+
+    /**
+     * 분할 임시테이블 0 ~ tableCount-1 생성 (실패 시 카탈로그 조회로 생성분 정리 후 예외)
+     *
+     * @param jobMap skipCount 포함, 테이블마다 복사해 tableNumber 설정
+     */
+    public void createAll(Map<String, String> jobMap, int tableCount) throws Exception {
+
+        long start = System.currentTimeMillis();
+
+        try {
+            runAll(range(tableCount), "생성", tableNumber -> {
+                Map<String, String> params = new HashMap<>(jobMap);
+                params.put("tableNumber", String.valueOf(tableNumber));
+
+                long tableStart = System.currentTimeMillis();
+                wlessMapper.createTmpPpabcPartition(params);
+                wlessMapper.createTmpPpabcJoinCalsum(params);
+                log.info("[SplitTablePreparer] {} tableNumber={} 생성: {}ms", name, tableNumber, System.currentTimeMillis() - tableStart);
+            });
+        } catch (Exception e) {
+            log.error("[SplitTablePreparer] {} 분할 임시테이블 생성 실패 → 생성분 정리", name);
+            try {
+                dropAll();
+            } catch (Exception cleanup) {
+                e.addSuppressed(cleanup);
+            }
+            throw e;
+        }
+
+        log.info("[SplitTablePreparer] {} 분할 임시테이블 생성 {}개 (병렬 {}): {}ms",
+            name, tableCount, parallelism, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 카탈로그에 있는 분할 임시테이블 번호 (분할 테이블 / JOIN_CALSUM 중 하나라도 있으면 포함, 오름차순)
+     */
+    private List<Integer> existingTableNumbers() {
+
+        String sql = "SELECT c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace"
+            + " WHERE n.nspname = ? AND c.relkind = 'r' AND c.relname ~ ?";
+
+        TreeSet<Integer> tableNumbers = new TreeSet<>();
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, SCHEMA);
+            ps.setString(2, SPLIT_TABLE_PATTERN);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Matcher matcher = TABLE_NUMBER.matcher(rs.getString(1));
+                    if (matcher.find()) {
+                        tableNumbers.add(Integer.parseInt(matcher.group(1)));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("[SplitTablePreparer] 분할 임시테이블 조회 실패", e);
+        }
+        return new ArrayList<>(tableNumbers);
+    }
+
+    private static List<Integer> range(int tableCount) {
+        List<Integer> tableNumbers = new ArrayList<>(Math.max(0, tableCount));
+        for (int i = 0; i < tableCount; i++) {
+            tableNumbers.add(i);
+        }
+        return tableNumbers;
+    }
+
+    private void runAll(List<Integer> tableNumbers, String action, TableTask task) throws Exception {
+
+        if (tableNumbers.isEmpty()) {
+            return;
+        }
+
+        if (parallelism == 1) {
+            for (int tableNumber : tableNumbers) {
+                task.run(tableNumber);
+            }
+            return;
+        }
+
+        AtomicInteger threadNo = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tableNumbers.size()), r -> {
+            Thread thread = new Thread(r, name + "-split-table-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<Void>> futures = new ArrayList<>(tableNumbers.size());
+            for (int tableNumber : tableNumbers) {
+                futures.add(executor.submit(() -> {
+                    task.run(tableNumber);
+                    return null;
+                }));
+            }
+
+            // 테이블 번호 순으로 대기 → 첫 실패가 항상 같은 기준으로 정해짐
+            Exception failure = null;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    log.error("[SplitTablePreparer] {} tableNumber={} {} 실패", name, tableNumbers.get(i), action, cause);
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface TableTask {
+        void run(int tableNumber) throws Exception;
+    }
+}
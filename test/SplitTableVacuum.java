@@ -0,0 +1,249 @@
+package com.abc.batch.job.test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntSupplier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 임시테이블 vacuum을 테이블 단위로 병렬 수행, 파티션은 자기가 읽는 분할 테이블만 기다림
+ *
+ * - VacuumStep: start() - 테이블별 vacuum 작업 등록 후 바로 종료 (StepManager 바로 시작)
+ * - Slave 파티션 beforeStep: 공통 테이블(번호 없는 테이블) + 파티션이 읽는 분할 테이블 vacuum 완료까지 대기
+ *   · 읽는 테이블은 StepExecutionContext tableNumber ("_{tableNumber}" 테이블)
+ *     (Slave Reader는 모든 파티션이 같은 테이블을 MOD(row_num, pool_size) = threadNo로 나눠 읽음 → threadNo와 무관)
+ *   · 파티셔너가 tableNumber를 넣지 않으면 defaultTableNumber 값을 StepExecutionContext에 넣음
+ *     → Slave Reader / Tasklet도 같은 키(stepExecutionContext[tableNumber])로 읽으므로 대기 테이블과 읽는 테이블이 항상 같음
+ * - 대기 상한 waitTimeoutMillis (파티션 전체 기준): 초과 시 경고 로그 후 진행 (vacuum은 계속 수행)
+ * - 통계가 최신인 테이블은 생략: ANALYZE 이력이 있고 이후 변경 건수가 freshRatio × 행 수 이하
+ * - vacuum 실패는 로그만 남기고 대기 해제 (기존 VacuumStep도 실패 시 StepManager 진행)
+ *
+ * 대기 없이 진행해도 결과는 같음 (통계 반영 전 조회로 실행 계획만 영향)
+ */
+@Slf4j
+public class SplitTableVacuum implements JobExecutionListener, StepExecutionListener {
+
+    private static final Pattern TABLE_NUMBER = Pattern.compile("_(\\d+)$");
+
+    // 테이블 단위 vacuum (BatchUtil.vacuumTable)
+    @FunctionalInterface
+    public interface VacuumAction {
+        void vacuum(ArrayList<String> tables) throws Exception;
+    }
+
+    private final String name;
+    private final DataSource dataSource;
+    private final VacuumAction action;
+    private final int parallelism;
+    private final double freshRatio;
+    private final long waitTimeoutMillis;
+    private final IntSupplier defaultTableNumber;
+
+    // 테이블 → vacuum 완료 (실패 / 생략 포함)
+    private volatile Map<String, CompletableFuture<Void>> pending = Collections.emptyMap();
+
+    private volatile ExecutorService executor;
+
+    public SplitTableVacuum(String name, DataSource dataSource, VacuumAction action,
+                            int parallelism, double freshRatio, long waitTimeoutMillis,
+                            IntSupplier defaultTableNumber) {
+
+        if (parallelism < 1 || waitTimeoutMillis < 1) {
+            throw new IllegalArgumentException("parallelism / waitTimeoutMillis는 1 이상: " + parallelism + " / " + waitTimeoutMillis);
+        }
+
+        this.name = name;
+        this.dataSource = dataSource;
+        this.action = action;
+        this.parallelism = parallelism;
+        this.freshRatio = freshRatio;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.defaultTableNumber = defaultTableNumber;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        pending = Collections.emptyMap();
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        ExecutorService current = executor;
+        if (current != null) {
+            // 진행 중인 vacuum은 끝까지 수행 (대기하지 않음)
+            current.shutdown();
+            executor = null;
+        }
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+
+        // 파티션 Step만 대기 (파티셔너가 threadNo를 넣음)
+        Object threadNo = stepExecution.getExecutionContext().get("threadNo");
+        if (threadNo == null) {
+            return;
+        }
+
+        // Reader / Tasklet이 읽는 값과 같은 값 (없으면 여기서 넣고 Reader / Tasklet이 그대로 사용)
+        Object tableNumber = stepExecution.getExecutionContext().get("tableNumber");
+        int target = tableNumber != null ? Integer.parseInt(String.valueOf(tableNumber)) : defaultTableNumber.getAsInt();
+        stepExecution.getExecutionContext().putInt("tableNumber", target);
+
+        long waited = awaitPartition(target);
+        log.info("[SplitTableVacuum] {} Partition {} vacuum 대기 (tableNumber={}): {}ms",
+            name, threadNo, target, waited);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        return null;
+    }
+
+    /**
+     * VacuumStep: 테이블별 vacuum 시작 (완료를 기다리지 않음)
+     */
+    public void start(List<String> tables) {
+
+        ExecutorService current = executor;
+        if (current != null) {
+            current.shutdown();
+        }
+
+        AtomicInteger threadNo = new AtomicInteger();
+        current = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, name + "-vacuum-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor = current;
+
+        Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        for (String table : tables) {
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            futures.put(table, done);
+            current.execute(() -> {
+                try {
+                    vacuum(table);
+                } finally {
+                    done.complete(null);
+                }
+            });
+        }
+        pending = futures;
+
+        log.info("[SplitTableVacuum] {} vacuum 시작: {}개, 병렬 {}", name, tables.size(), parallelism);
+    }
+
+    /**
+     * 파티션이 읽는 테이블 vacuum 완료까지 대기 (waitTimeoutMillis 초과 시 경고 후 반환)
+     *
+     * @param tableNumber 파티션이 읽는 분할 테이블 번호 (null이면 전체 테이블)
+     * @return 대기 시간 (ms)
+     */
+    public long awaitPartition(Integer tableNumber) {
+
+        long start = System.currentTimeMillis();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+
+        for (Map.Entry<String, CompletableFuture<Void>> entry : pending.entrySet()) {
+            Matcher matcher = TABLE_NUMBER.matcher(entry.getKey());
+            if (tableNumber != null && matcher.find() && Integer.parseInt(matcher.group(1)) != tableNumber) {
+                continue;
+            }
+
+            try {
+                entry.getValue().get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                log.warn("[SplitTableVacuum] {} {} vacuum 대기 {}ms 초과 → 대기 없이 진행", name, entry.getKey(), waitTimeoutMillis);
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("[SplitTableVacuum] {} vacuum 대기 중 인터럽트 → 대기 없이 진행", name);
+                break;
+            } catch (ExecutionException e) {
+                // vacuum()이 예외를 삼키고 complete(null)만 호출하므로 발생하지 않음
+                log.warn("[SplitTableVacuum] {} {} vacuum 실패", name, entry.getKey(), e.getCause());
+            }
+        }
+
+        return System.currentTimeMillis() - start;
+    }
+
+    /**
+     * 전체 vacuum 완료까지 대기
+     */
+    public void awaitAll() {
+        CompletableFuture.allOf(pending.values().toArray(new CompletableFuture[0])).join();
+    }
+
+    private void vacuum(String table) {
+
+        long start = System.currentTimeMillis();
+
+        try {
+            if (isFresh(table)) {
+                log.info("[SplitTableVacuum] {} {} 통계 최신 → 생략", name, table);
+                return;
+            }
+
+            ArrayList<String> tables = new ArrayList<>(1);
+            tables.add(table);
+            action.vacuum(tables);
+
+            log.info("[SplitTableVacuum] {} {} vacuum: {}ms", name, table, System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            log.warn("[SplitTableVacuum] {} {} vacuum 실패 (대기 해제)", name, table, e);
+        }
+    }
+
+    /**
+     * ANALYZE 이력이 있고 이후 변경 건수가 행 수 × freshRatio 이하인지
+     * (방금 생성된 테이블은 ANALYZE 이력이 없으므로 항상 수행)
+     */
+    private boolean isFresh(String table) {
+
+        String sql = "SELECT coalesce(s.last_analyze, s.last_autoanalyze) IS NOT NULL"
+            + " AND s.n_mod_since_analyze <= greatest(c.reltuples, 0) * ?"
+            + " FROM pg_stat_user_tables s JOIN pg_class c ON c.oid = s.relid"
+            + " WHERE s.relid = ?::regclass";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setDouble(1, freshRatio);
+            ps.setString(2, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        } catch (SQLException e) {
+            log.warn("[SplitTableVacuum] {} {} 통계 조회 실패 → vacuum 수행", name, table, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.abc.batch.job.test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.innoexpert.rulesclient.Item;
+import com.innoexpert.rulesclient.ResultSet;
+import com.innoexpert.rulesclient.ResultSetMetaData;
+import com.innoexpert.rulesclient.RuleInterface;
+import com.innoexpert.rulesclient.RuleReq;
+import com.innoexpert.rulesclient.RulesException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 InnoRules stand-in (네트워크 / 룰 클러스터 없이 처리량 측정용)
+ *
+ * - RuleEngineInvoker에 RuleInterface로 주입, RuleReq는 StubRuleReq 사용 (요청 항목 값 기록)
+ * - 결과: 요청의 svc_cont_id 값마다 rows행, 컬럼 = RuleResultMappingPlan 등록 컬럼 (벌크 요청도 건별 배정 가능)
+ *   svc_cont_id 외 컬럼은 같은 이름의 요청 항목 값, 없으면 룰 코드
+ * - 지연: p50 / p99로 맞춘 로그정규 분포 (Thread.sleep → 가상 쓰레드에서도 blocking I/O와 동일하게 동작)
+ * - 오류: error 비율로 RulesException, burstEvery마다 burstFor 동안 모든 호출 RulesException
+ * - 처리율 제한: 초당 rateLimit건 초과 시 지연 없이 RulesException (토큰 버킷, 0.1초 분량 burst 허용)
+ * - 같은 seed / 같은 호출 순서면 같은 지연 / 오류 발생 (호출 순번으로 난수 생성)
+ *
+ * 설정 (rule-call-stub, 콤마 구분 key=value):
+ *   p50=20, p99=200, error=0.001, burstEvery=60000, burstFor=2000, rateLimit=3000, rows=1, seed=42
+ */
+@Slf4j
+public class StubRuleEngine implements RuleInterface {
+
+    // 표준정규 99 백분위
+    private static final double Z_99 = 2.326348;
+
+    private static final String KEY_COLUMN = RuleResultMappingPlan.KEY_COLUMN;
+
+    private final double p50Millis;
+    private final double sigma;
+    private final double errorRate;
+    private final long burstEveryMillis;
+    private final long burstForMillis;
+    private final double rateLimit;
+    private final int rows;
+    private final long seed;
+
+    private final List<String> columns;
+    private final long startNanos = System.nanoTime();
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong burstErrors = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+
+    // 토큰 버킷
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    public StubRuleEngine(double p50Millis, double p99Millis, double errorRate,
+                          long burstEveryMillis, long burstForMillis, double rateLimit, int rows, long seed) {
+        this(p50Millis, p99Millis, errorRate, burstEveryMillis, burstForMillis, rateLimit, rows, seed, Collections.emptySet());
+    }
+
+    /**
+     * @param extraColumns 매핑 등록 컬럼 외 결과 컬럼 (요청 항목 값을 그대로 돌려줌, 결과 행이 어느 요청 건 것인지 확인용)
+     */
+    public StubRuleEngine(double p50Millis, double p99Millis, double errorRate,
+                          long burstEveryMillis, long burstForMillis, double rateLimit, int rows, long seed,
+                          Collection<String> extraColumns) {
+
+        if (p50Millis < 0 || p99Millis < 0 || errorRate < 0 || errorRate > 1 || rows < 0) {
+            throw new IllegalArgumentException("stub 룰엔진 설정 오류: p50=" + p50Millis + ", p99=" + p99Millis
+                + ", error=" + errorRate + ", rows=" + rows);
+        }
+
+        this.p50Millis = p50Millis;
+        this.sigma = p50Millis > 0 && p99Millis > p50Millis ? Math.log(p99Millis / p50Millis) / Z_99 : 0d;
+        this.errorRate = errorRate;
+        this.burstEveryMillis = burstEveryMillis;
+        this.burstForMillis = burstForMillis;
+        this.rateLimit = rateLimit;
+        this.rows = rows;
+        this.seed = seed;
+        this.tokens = burstCapacity();
+
+        Set<String> schema = new LinkedHashSet<>();
+        schema.add(KEY_COLUMN);
+        schema.addAll(RuleResultMappingPlan.registeredColumns());
+        schema.addAll(extraColumns);
+        this.columns = new ArrayList<>(schema);
+    }
+
+    /**
+     * "p50=20,p99=200,error=0.001" 형식 설정 파싱 (없는 항목은 기본값)
+     */
+    public static StubRuleEngine parse(String spec) {
+
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String entry : RuleCallContext.parseRuleCodes(spec)) {
+            int idx = entry.indexOf('=');
+            if (idx <= 0) {
+                throw new IllegalArgumentException("stub 룰엔진 설정 형식 오류 (key=value): " + entry);
+            }
+            values.put(entry.substring(0, idx).trim(), entry.substring(idx + 1).trim());
+        }
+
+        StubRuleEngine engine = new StubRuleEngine(
+            Double.parseDouble(take(values, "p50", "20")),
+            Double.parseDouble(take(values, "p99", "200")),
+            Double.parseDouble(take(values, "error", "0")),
+            Long.parseLong(take(values, "burstEvery", "0")),
+            Long.parseLong(take(values, "burstFor", "0")),
+            Double.parseDouble(take(values, "rateLimit", "0")),
+            Integer.parseInt(take(values, "rows", "1")),
+            Long.parseLong(take(values, "seed", "42")));
+
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("stub 룰엔진 설정 항목 오류: " + values.keySet());
+        }
+
+        log.warn("[StubRuleEngine] 로컬 stub 룰엔진 사용 (실제 룰 클러스터 호출 안 함): {}", engine);
+        return engine;
+    }
+
+    private static String take(Map<String, String> values, String key, String defaultValue) {
+        String value = values.remove(key);
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public ResultSet execute(RuleReq req) throws RulesException {
+
+        if (!(req instanceof StubRuleReq)) {
+            throw new IllegalStateException("stub 룰엔진은 StubRuleReq만 처리 (WlessRuleEvaluator.requestFactory 확인)");
+        }
+
+        long callNo = calls.getAndIncrement();
+
+        if (!tryAcquire()) {
+            rateLimited.incrementAndGet();
+            throw new RulesException("stub: 처리율 제한 초과 (rateLimit=" + rateLimit + "/s)");
+        }
+
+        SplittableRandom random = new SplittableRandom(seed + callNo);
+        sleep(latencyMicros(random));
+
+        if (inBurst()) {
+            burstErrors.incrementAndGet();
+            throw new RulesException("stub: 장애 구간 (burstFor=" + burstForMillis + "ms)");
+        }
+
+        if (errorRate > 0 && random.nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            throw new RulesException("stub: 주입된 오류 (error=" + errorRate + ")");
+        }
+
+        return new StubResultSet((StubRuleReq) req);
+    }
+
+    private long latencyMicros(SplittableRandom random) {
+        if (p50Millis == 0) {
+            return 0L;
+        }
+        double millis = sigma == 0 ? p50Millis : p50Millis * Math.exp(sigma * gaussian(random));
+        return (long) (millis * 1000d);
+    }
+
+    // Box-Muller
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1d - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2d * Math.log(u1)) * Math.cos(2d * Math.PI * u2);
+    }
+
+    private static void sleep(long micros) throws RulesException {
+        if (micros <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MICROSECONDS.sleep(micros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RulesException("stub: 호출 중 인터럽트");
+        }
+    }
+
+    private boolean inBurst() {
+        if (burstEveryMillis <= 0 || burstForMillis <= 0) {
+            return false;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return elapsedMillis % burstEveryMillis >= burstEveryMillis - burstForMillis;
+    }
+
+    private double burstCapacity() {
+        return Math.max(1d, rateLimit / 10d);
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (rateLimit <= 0) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        tokens = Math.min(burstCapacity(), tokens + (now - lastRefillNanos) * rateLimit / 1_000_000_000d);
+        lastRefillNanos = now;
+
+        if (tokens < 1d) {
+            return false;
+        }
+        tokens -= 1d;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p50=%.1fms, sigma=%.3f, error=%s, burst=%d/%dms, rateLimit=%s/s, rows=%d, seed=%d"
+                + " (호출=%d, 주입 오류=%d, 장애 구간 오류=%d, 처리율 제한=%d)",
+            p50Millis, sigma, errorRate, burstForMillis, burstEveryMillis, rateLimit, rows, seed,
+            calls.get(), injectedErrors.get(), burstErrors.get(), rateLimited.get());
+    }
+
+    /**
+     * 요청 항목 값을 기록하는 RuleReq (stub 룰엔진 전용)
+     */
+    public static class StubRuleReq extends RuleReq {
+
+        private String ruleCode;
+        private final Map<String, StubItem> items = new LinkedHashMap<>();
+
+        @Override
+        public void setRuleCode(String ruleCode) {
+            this.ruleCode = ruleCode;
+        }
+
+        @Override
+        public void setDate(String date) {
+        }
+
+        @Override
+        public void resetItems() {
+            items.clear();
+        }
+
+        @Override
+        public Item addStringItem(String name) {
+            return items.computeIfAbsent(name, k -> new StubItem());
+        }
+
+        @Override
+        public Item addNumberItem(String name) {
+            return items.computeIfAbsent(name, k -> new StubItem());
+        }
+    }
+
+    /**
+     * 값 리스트 항목 (요청 항목 / 결과 컬럼 공용)
+     */
+    private static class StubItem implements Item {
+
+        private final List<String> values = new ArrayList<>(1);
+
+        StubItem() {
+        }
+
+        StubItem(String value) {
+            values.add(value);
+        }
+
+        @Override
+        public Item add(String value) {
+            values.add(value);
+            return this;
+        }
+
+        @Override
+        public Item add(BigDecimal value) {
+            values.add(value == null ? null : value.toPlainString());
+            return this;
+        }
+
+        @Override
+        public String getString(int index) {
+            return values.get(index);
+        }
+    }
+
+    /**
+     * 요청 건(svc_cont_id 값)마다 rows행을 돌려주는 결과
+     *
+     * - 결과는 호출 시점 요청 값을 복사해서 보관 (RuleReq 재사용과 무관)
+     */
+    private class StubResultSet implements ResultSet, ResultSetMetaData {
+
+        private final String ruleCode;
+        private final List<Map<String, String>> requests = new ArrayList<>();
+        private int row = -1;
+
+        StubResultSet(StubRuleReq req) {
+            this.ruleCode = req.ruleCode;
+
+            StubItem keys = req.items.get(KEY_COLUMN);
+            int count = keys == null ? 1 : keys.values.size();
+
+            for (int i = 0; i < count; i++) {
+                Map<String, String> values = new LinkedHashMap<>();
+                for (Map.Entry<String, StubItem> item : req.items.entrySet()) {
+                    List<String> itemValues = item.getValue().values;
+                    values.put(item.getKey(), i < itemValues.size() ? itemValues.get(i) : null);
+                }
+                requests.add(values);
+            }
+        }
+
+        @Override
+        public boolean next() {
+            row++;
+            return row < requests.size() * rows;
+        }
+
+        @Override
+        public ResultSetMetaData getMetaData() {
+            return this;
+        }
+
+        @Override
+        public Item getItem(int column) {
+            String name = columns.get(column - 1);
+            String value = requests.get(row / rows).get(name);
+            return new StubItem(value != null || KEY_COLUMN.equals(name) ? value : ruleCode);
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columns.size();
+        }
+
+        @Override
+        public String getColumnName(int column, int codeType) {
+            return columns.get(column - 1);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.abc.batch.job.test;
+
+import java.io.Serializable;
+
+import lombok.Getter;
+
+/**
+ * Keyset 페이징 key (svcContId + 분할 테이블 행 순번)
+ *
+ * - svcContId는 파티션 안에서 유일하지 않음 → rowSeq로 같은 svcContId 행을 구분
+ * - 정렬 순서는 쿼리의 ORDER BY SVC_CONT_ID COLLATE "C", ROW_SEQ와 같아야 함
+ *   (String.compareTo = "C" collation 순서, svcContId는 ASCII)
+ * - ExecutionContext에는 문자열("svcContId|rowSeq")로 저장 (restart 시 parse)
+ */
+@Getter
+public final class SvcContKey implements Comparable<SvcContKey>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String svcContId;
+    private final long rowSeq;
+
+    public SvcContKey(String svcContId, long rowSeq) {
+        if (svcContId == null) {
+            throw new IllegalArgumentException("svcContId null");
+        }
+        this.svcContId = svcContId;
+        this.rowSeq = rowSeq;
+    }
+
+    public static SvcContKey parse(String value) {
+        int idx = value.lastIndexOf('|');
+        if (idx < 0) {
+            throw new IllegalArgumentException("SvcContKey 형식 오류 (svcContId|rowSeq): " + value);
+        }
+        return new SvcContKey(value.substring(0, idx), Long.parseLong(value.substring(idx + 1)));
+    }
+
+    @Override
+    public int compareTo(SvcContKey other) {
+        int cmp = svcContId.compareTo(other.svcContId);
+        return cmp != 0 ? cmp : Long.compare(rowSeq, other.rowSeq);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SvcContKey)) {
+            return false;
+        }
+        SvcContKey other = (SvcContKey) o;
+        return rowSeq == other.rowSeq && svcContId.equals(other.svcContId);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * svcContId.hashCode() + Long.hashCode(rowSeq);
+    }
+
+    @Override
+    public String toString() {
+        return svcContId + '|' + rowSeq;
+    }
+}
@@ -0,0 +1,295 @@
+package com.abc.batch.job.test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A 방법(Cursor + Tasklet) vs B 방법(PagingReader + Writer) 종단 간 처리량 하네스
+ *
+ * 실행 순서 (행 수 × 방법마다):
+ * 1. 내장 PostgreSQL 기동 (zonky embedded-postgres, 네트워크 / 외부 DB 없음, Job 실행마다 새 DB)
+ * 2. 시드 SQL 실행 - 스크립트 안의 ${rows}를 행 수로 치환 (대상 원천 테이블 + 배치 설정 테이블 생성 / 적재)
+ * 3. Job 1회 실행 (새 Spring 컨텍스트, rule-call-stub → 로컬 StubRuleEngine)
+ * 4. 측정값 수집 후 DB 종료 (이전 실행의 bloat / 캐시가 다음 측정에 영향 없음)
+ *
+ * 측정 항목:
+ * - rows/s       : 시드 행 수 / StepManager 소요시간
+ * - 배치 p99      : wless.batch.duration (stage=evaluate / write) 99 백분위
+ * - heap 최대     : 실행 전 peak 초기화 후 heap 메모리 풀 peak 합
+ * - Step별 DB 시간: PreStep / PartitionTableStep / VacuumStep / BrmsInsertStep / AfterStep 소요시간 + Slave 결과 저장(write) 누적시간
+ *
+ * 결과: throughput-report.md (행 수 × 방법 비교표)
+ *
+ * 실행: java com.abc.batch.job.test.WlessJobThroughputHarness
+ *        <Spring Boot 메인 클래스> <시드 SQL 경로> [행 수 목록=100000,1000000,5000000] [stub 설정]
+ * - 매퍼 XML / BatchUtil 설정 테이블은 이 트리 밖에 있으므로 시드 SQL이 운영과 같은 스키마를 만들어야 함
+ */
+@Slf4j
+public class WlessJobThroughputHarness {
+
+    private static final String DEFAULT_ROWS = "100000,1000000,5000000";
+    private static final String DEFAULT_STUB = "p50=20,p99=200,error=0.001,seed=42";
+
+    private static final String REPORT_FILE = "throughput-report.md";
+
+    // 비교 대상 (Job 이름 → 배치 타이머 design 태그)
+    private static final Map<String, String> DESIGNS = new LinkedHashMap<>();
+
+    static {
+        DESIGNS.put("wlessMabcCursorTaskletJob", "cursor-tasklet");
+        DESIGNS.put("wlessMabcPagingReaderJob", "paging-writer");
+    }
+
+    // DB 작업 Step (이름 접미사)
+    private static final String[] DB_STEPS = {"PreStep", "PartitionTableStep", "VacuumStep", "BrmsInsertStep", "AfterStep"};
+
+    public static void main(String[] args) throws Exception {
+
+        if (args.length < 2) {
+            System.err.println("usage: WlessJobThroughputHarness <appClass> <seedSql> [rows,...] [stubSpec]");
+            System.exit(2);
+        }
+
+        Class<?> appClass = Class.forName(args[0]);
+        String seedSql = new String(Files.readAllBytes(Paths.get(args[1])), StandardCharsets.UTF_8);
+        String stubSpec = args.length > 3 ? args[3] : DEFAULT_STUB;
+
+        List<Result> results = new ArrayList<>();
+
+        for (String rowsArg : (args.length > 2 ? args[2] : DEFAULT_ROWS).split(",")) {
+            long rows = Long.parseLong(rowsArg.trim());
+
+            for (Map.Entry<String, String> design : DESIGNS.entrySet()) {
+                try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+                    seed(postgres, seedSql, rows);
+                    results.add(run(appClass, postgres, design.getKey(), design.getValue(), rows, stubSpec));
+                }
+            }
+        }
+
+        Path report = writeReport(results, stubSpec);
+        log.info("[Harness] 비교 리포트: {}", report.toAbsolutePath());
+    }
+
+    /**
+     * 시드 SQL 실행 (${rows} 치환)
+     */
+    private static void seed(EmbeddedPostgres postgres, String seedSql, long rows) throws SQLException {
+
+        long startTime = System.currentTimeMillis();
+
+        try (Connection conn = postgres.getPostgresDatabase().getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(seedSql.replace("${rows}", String.valueOf(rows)));
+        }
+
+        log.info("[Harness] 시드 {}건 ({}ms)", rows, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Job 1회 실행 + 측정
+     */
+    private static Result run(Class<?> appClass, EmbeddedPostgres postgres,
+                              String jobName, String design, long rows, String stubSpec) throws Exception {
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.globalRegistry.add(registry);
+        resetHeapPeak();
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.first.jdbc-url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.first.username", "postgres");
+        properties.put("spring.datasource.first.password", "postgres");
+        properties.put("spring.batch.job.enabled", "false");
+        properties.put("spring.quartz.auto-startup", "false");
+        properties.put("rule-call-stub", stubSpec);
+
+        log.info("[Harness] {} 시작: {}건", jobName, rows);
+
+        try (ConfigurableApplicationContext ctx = new SpringApplicationBuilder(appClass)
+                .web(WebApplicationType.NONE)
+                .properties(properties)
+                .run()) {
+
+            Job job = ctx.getBean(jobName, Job.class);
+            JobLauncher launcher = ctx.getBean(JobLauncher.class);
+
+            long startTime = System.currentTimeMillis();
+            JobExecution execution = launcher.run(job, new JobParametersBuilder()
+                .addLong("harness.run", startTime)
+                .toJobParameters());
+
+            Result result = new Result(jobName, rows, String.valueOf(execution.getStatus()),
+                System.currentTimeMillis() - startTime);
+
+            for (StepExecution step : execution.getStepExecutions()) {
+                // 파티션 Slave Step(이름:partitionN)은 StepManager에 포함
+                if (!step.getStepName().contains(":")) {
+                    result.stepMillis.put(step.getStepName().substring(jobName.length()), durationMillis(step));
+                }
+            }
+
+            result.evaluateP99Millis = p99Millis(registry, design, "evaluate");
+            result.writeP99Millis = p99Millis(registry, design, "write");
+            result.writeTotalMillis = totalMillis(registry, design, "write");
+            result.heapPeakBytes = heapPeak();
+
+            log.info("[Harness] {} 완료: {}", jobName, result);
+            return result;
+
+        } finally {
+            Metrics.globalRegistry.remove(registry);
+            registry.close();
+        }
+    }
+
+    private static long durationMillis(StepExecution step) {
+        if (step.getStartTime() == null || step.getEndTime() == null) {
+            return -1L;
+        }
+        return step.getEndTime().getTime() - step.getStartTime().getTime();
+    }
+
+    private static double p99Millis(SimpleMeterRegistry registry, String design, String stage) {
+        Timer timer = registry.find("wless.batch.duration").tags("design", design, "stage", stage).timer();
+        if (timer == null) {
+            return Double.NaN;
+        }
+        for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.99) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static double totalMillis(SimpleMeterRegistry registry, String design, String stage) {
+        Timer timer = registry.find("wless.batch.duration").tags("design", design, "stage", stage).timer();
+        return timer == null ? Double.NaN : timer.totalTime(TimeUnit.MILLISECONDS);
+    }
+
+    private static void resetHeapPeak() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long heapPeak() {
+        long peak = 0L;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static Path writeReport(List<Result> results, String stubSpec) throws IOException {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("# A 방법 vs B 방법 처리량 비교\n\n");
+        sb.append("- stub 룰엔진: `").append(stubSpec).append("`\n");
+        sb.append("- JVM: ").append(System.getProperty("java.version"))
+          .append(", max heap ").append(Runtime.getRuntime().maxMemory() / 1024 / 1024).append("MB")
+          .append(", CPU ").append(Runtime.getRuntime().availableProcessors()).append("\n\n");
+
+        sb.append("| 행 수 | 방법 | 상태 | rows/s | 평가 p99 (ms) | 저장 p99 (ms) | heap 최대 (MB) | Job (s) |");
+        for (String step : DB_STEPS) {
+            sb.append(' ').append(step).append(" (s) |");
+        }
+        sb.append(" StepManager (s) | 저장 누적 (s) |\n");
+
+        sb.append("|---|---|---|---|---|---|---|---|");
+        for (int i = 0; i < DB_STEPS.length; i++) {
+            sb.append("---|");
+        }
+        sb.append("---|---|\n");
+
+        for (Result result : results) {
+            sb.append(String.format("| %,d | %s | %s | %,.0f | %.1f | %.1f | %,d | %.1f |",
+                result.rows, result.jobName, result.status, result.rowsPerSecond(),
+                result.evaluateP99Millis, result.writeP99Millis, result.heapPeakBytes / 1024 / 1024,
+                result.jobMillis / 1000d));
+            for (String step : DB_STEPS) {
+                sb.append(String.format(" %.1f |", result.stepMillis.getOrDefault(step, -1L) / 1000d));
+            }
+            sb.append(String.format(" %.1f | %.1f |\n",
+                result.stepMillis.getOrDefault("StepManager", -1L) / 1000d, result.writeTotalMillis / 1000d));
+        }
+
+        Path report = Paths.get(REPORT_FILE);
+        Files.write(report, sb.toString().getBytes(StandardCharsets.UTF_8));
+        return report;
+    }
+
+    /**
+     * Job 1회 측정값
+     */
+    private static class Result {
+
+        final String jobName;
+        final long rows;
+        final String status;
+        final long jobMillis;
+
+        // Step 이름(Job 이름 제외) → 소요시간
+        final Map<String, Long> stepMillis = new LinkedHashMap<>();
+
+        double evaluateP99Millis;
+        double writeP99Millis;
+        double writeTotalMillis;
+        long heapPeakBytes;
+
+        Result(String jobName, long rows, String status, long jobMillis) {
+            this.jobName = jobName;
+            this.rows = rows;
+            this.status = status;
+            this.jobMillis = jobMillis;
+        }
+
+        double rowsPerSecond() {
+            long millis = stepMillis.getOrDefault("StepManager", jobMillis);
+            return millis <= 0 ? 0d : rows * 1000d / millis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("status=%s, rows/s=%,.0f, evaluate p99=%.1fms, write p99=%.1fms, heap peak=%,dMB, steps=%s",
+                status, rowsPerSecond(), evaluateP99Millis, writeP99Millis, heapPeakBytes / 1024 / 1024, stepMillis);
+        }
+    }
+}
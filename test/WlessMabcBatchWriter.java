@@ -5,27 +5,22 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.item.ItemWriter;
 
 import com.abc.batch.domain.PpWlessabcTxnItem;
 import com.abc.batch.domain.RuleWlessChkResltItem;
 import com.abc.batch.mapper.WlessPartiMapper;
 import com.abc.job.util.BatchInsertDao;
-import com.innoexpert.rulesclient.ClusterManager;
-import com.innoexpert.rulesclient.Constants;
-import com.innoexpert.rulesclient.Item;
-import com.innoexpert.rulesclient.ResultSet;
-import com.innoexpert.rulesclient.ResultSetMetaData;
-import com.innoexpert.rulesclient.RuleInterface;
-import com.innoexpert.rulesclient.RuleReq;
-import com.innoexpert.rulesclient.RulesException;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -40,21 +35,29 @@ import lombok.extern.slf4j.Slf4j;
  *
  * 동작 방식:
  * 1. chunk_size(1000)건을 한번에 받음
- * 2. 1000건을 5개로 분할 (200건 × 5)
- * 3. ExecutorService(5)로 병렬 API 호출
+ * 2. 1000건을 5개 워커로 분배 (고정 분할 또는 공유 큐)
+ * 3. Job 공유 RuleCallScheduler로 병렬 API 호출
  * 4. 결과 일괄 저장
  *
+ * write-behind (writeBehind 설정 시):
+ * - 4번은 Job 공유 RuleResultWriteBehind 버퍼로 전달만 하고 바로 다음 청크 진행
+ * - 저장은 청크 트랜잭션과 분리됨, 전체 적재 완료는 BrmsInsertStep 시작 시 대기
+ * - Slave Step 종료 시(afterStep) 파티션 결과 적재 완료까지 대기, 적재 실패 시 Step 실패
+ *   (Writer가 StepExecutionListener → Step 빌더가 리스너로 자동 등록)
+ *
  * @author Claude Code
  * @since 2025-11-11
  * @version 1.0.0
  */
 @Slf4j
 @RequiredArgsConstructor
-public class WlessMabcBatchWriter implements ItemWriter<PpWlessabcTxnItem> {
+public class WlessMabcBatchWriter implements ItemWriter<PpWlessabcTxnItem>, StepExecutionListener {
 
     private final BatchInsertDao batchInsertDao;
     private final WlessPartiMapper wlessMapper;
     private final SqlSessionFactory sqlSessionFactory;
+    private final RuleCallScheduler ruleCallScheduler;
+    private final WlessRuleEvaluator ruleEvaluator;
 
     @Setter
     private String partitionGbn;
@@ -62,15 +65,32 @@ public class WlessMabcBatchWriter implements ItemWriter<PpWlessabcTxnItem> {
     @Setter
     private Map<String, String> recvMap;
 
-    // 병렬 처리 수 (5개 병렬 API 호출)
-    private static final int PARALLEL_COUNT = 5;
+    // 증분 평가 (null이면 전체 평가)
+    @Setter
+    private IncrementalRuleEvaluator incrementalEvaluator;
+
+    // 결과 임시테이블 적재 방식 (null이면 BatchInsertDao INSERT)
+    @Setter
+    private BulkLoadStrategy bulkLoadStrategy;
 
-    // API 재시도 횟수
-    private static final int MAX_RETRIES = 3;
+    // 결과 write-behind (null이면 호출 쓰레드에서 바로 저장)
+    @Setter
+    private RuleResultWriteBehind writeBehind;
+
+    // 결과 적재 테이블 (파티션별 staging 테이블 사용 시 해당 파티션 테이블)
+    @Setter
+    private String resultTable = ResultStagingTables.BASE_TABLE;
+
+    // 첫 write 시 recvMap에서 1회 파싱 (Writer는 파티션마다 생성)
+    private RuleCallContext ruleCallContext;
 
     // API 타임아웃 (분)
     private static final int API_TIMEOUT_MINUTES = 5;
 
+    // 배치 단계별 소요시간 (p99 포함, 처리량 하네스 / 모니터링)
+    private static final Timer EVALUATE_TIMER = batchTimer("evaluate");
+    private static final Timer WRITE_TIMER = batchTimer("write");
+
     private static int writeCount = 0;  // Writer 호출 횟수
 
     /**
@@ -106,246 +126,104 @@ public class WlessMabcBatchWriter implements ItemWriter<PpWlessabcTxnItem> {
         log.info("=================================================================");
     }
 
-    /**
-     * 1000건을 5개로 분할하여 병렬 처리
-     *
-     * ⚡ 병렬 구조:
-     * - 1000건 → 200건씩 5개로 분할
-     * - ExecutorService(5) 사용
-     * - CompletableFuture로 비동기 처리
-     */
-    private List<RuleWlessChkResltItem> processInParallel(List<? extends PpWlessabcTxnItem> items) throws Exception {
-
-        int subBatchSize = (int) Math.ceil((double) items.size() / PARALLEL_COUNT);
-
-        // ⚡ 병렬 5개로 API 호출
-        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_COUNT);
-        List<CompletableFuture<List<RuleWlessChkResltItem>>> futures = new ArrayList<>();
-
-        try {
-            for (int i = 0; i < PARALLEL_COUNT; i++) {
-                int start = i * subBatchSize;
-                int end = Math.min(start + subBatchSize, items.size());
-
-                if (start >= items.size()) break;
-
-                // 서브 배치 생성 (약 200건)
-                List<PpWlessabcTxnItem> subBatch = new ArrayList<>(items.subList(start, end));
-                final int partitionIndex = i;
-
-                // 🔥 비동기 API 호출
-                futures.add(CompletableFuture.supplyAsync(() -> {
-                    long subBatchStart = System.currentTimeMillis();
-
-                    log.debug("[Partition {} - Writer - Sub {}] API 호출 시작: {}건",
-                        partitionGbn, partitionIndex, subBatch.size());
-
-                    List<RuleWlessChkResltItem> results = callRuleEngineForBatch(subBatch);
-
-                    long subBatchDuration = System.currentTimeMillis() - subBatchStart;
-                    log.debug("[Partition {} - Writer - Sub {}] API 호출 완료: {}건 → {}결과 ({}ms)",
-                        partitionGbn, partitionIndex, subBatch.size(), results.size(), subBatchDuration);
-
-                    return results;
-
-                }, executor));
-            }
-
-            // ⏳ 모든 API 호출 완료 대기
-            List<RuleWlessChkResltItem> allResults = new ArrayList<>();
-            for (CompletableFuture<List<RuleWlessChkResltItem>> future : futures) {
-                try {
-                    allResults.addAll(future.get(API_TIMEOUT_MINUTES, TimeUnit.MINUTES));
-                } catch (Exception e) {
-                    log.error("[Partition {}] 서브 배치 처리 실패", partitionGbn, e);
-                    throw e;
-                }
-            }
-
-            return allResults;
-
-        } finally {
-            executor.shutdown();
-            if (!executor.awaitTermination(10, TimeUnit.MINUTES)) {
-                log.warn("[Partition {}] ExecutorService 강제 종료", partitionGbn);
-                executor.shutdownNow();
-            }
-        }
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
     }
 
     /**
-     * 배치 단위로 룰엔진 API 호출
-     * (서브 배치: 약 200건)
+     * write-behind 사용 시 파티션 결과 적재 완료 대기 (Tasklet 종료 시 awaitPartition과 동일)
+     *
+     * - 적재 실패 / 인터럽트 시 Step FAILED
      */
-    private List<RuleWlessChkResltItem> callRuleEngineForBatch(List<PpWlessabcTxnItem> items) {
-
-        List<RuleWlessChkResltItem> batchResults = new ArrayList<>();
-
-        for (PpWlessabcTxnItem item : items) {
-            try {
-                // 개별 아이템에 대해 룰엔진 호출 (재시도 포함)
-                List<RuleWlessChkResltItem> itemResults = callRuleEngineWithRetry(item);
-                batchResults.addAll(itemResults);
-
-            } catch (Exception e) {
-                log.error("[Partition {}] 아이템 처리 실패: svcContId={}",
-                    partitionGbn, item.getSvcContId(), e);
-
-                // 실패 건 별도 처리 (선택사항)
-                // saveFailedItem(item, e);
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
 
-                // 계속 진행 (다음 아이템 처리)
-            }
+        if (writeBehind == null) {
+            return null;
         }
 
-        return batchResults;
-    }
-
-    /**
-     * 룰엔진 API 호출 (재시도 포함)
-     */
-    private List<RuleWlessChkResltItem> callRuleEngineWithRetry(PpWlessabcTxnItem item) {
-
-        int retryCount = 0;
-        Exception lastException = null;
-
-        while (retryCount < MAX_RETRIES) {
-            try {
-                return callRuleEngine(item);
-
-            } catch (Exception e) {
-                lastException = e;
-                retryCount++;
-
-                if (retryCount < MAX_RETRIES) {
-                    log.warn("[Partition {}] API 재시도 {}/{}: svcContId={}",
-                        partitionGbn, retryCount, MAX_RETRIES, item.getSvcContId());
-
-                    try {
-                        // Exponential backoff
-                        Thread.sleep(1000L * retryCount);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
-            }
+        try {
+            writeBehind.awaitPartition(partitionGbn);
+            return null;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failStep(stepExecution, e);
+        } catch (RuntimeException e) {
+            return failStep(stepExecution, e);
         }
+    }
 
-        log.error("[Partition {}] API 최종 실패 (재시도 {}회): svcContId={}",
-            partitionGbn, MAX_RETRIES, item.getSvcContId(), lastException);
-
-        // 빈 결과 반환 (또는 예외 throw)
-        return new ArrayList<>();
+    private ExitStatus failStep(StepExecution stepExecution, Exception e) {
+        log.error("[Partition {}] 결과 적재 대기 실패 → Step 실패", partitionGbn, e);
+        stepExecution.setStatus(BatchStatus.FAILED);
+        stepExecution.addFailureException(e);
+        return ExitStatus.FAILED.addExitDescription(e);
     }
 
     /**
-     * 룰엔진 API 호출 (실제 InnoRules 호출)
+     * 1000건을 병렬 처리
      *
-     * 기존 WlessMabcQatCplyPerpProcessor.ruleCall() 로직과 동일
+     * ⚡ 병렬 구조:
+     * - STATIC : 1000건 → 200건씩 5개로 분할
+     * - DYNAMIC: 5개 워커가 공유 큐에서 micro-batch 단위로 가져감
+     * - Job 공유 RuleCallScheduler 사용 (Write마다 쓰레드 풀 생성하지 않음)
+     * - 증분 모드: 이전 실행과 입력이 같은 건은 룰 호출 생략 (결과는 BrmsInsertStep에서 이월)
      */
-    private List<RuleWlessChkResltItem> callRuleEngine(PpWlessabcTxnItem paramItem) throws Exception {
+    private List<RuleWlessChkResltItem> processInParallel(List<? extends PpWlessabcTxnItem> items) throws Exception {
+
+        RuleCallContext context = getRuleCallContext();
 
-        List<RuleWlessChkResltItem> rstList = new ArrayList<>();
+        long startNanos = System.nanoTime();
 
         try {
-            RuleInterface intf = null;
-            RuleReq req = new RuleReq();
-            ResultSet rs;
-            Item item;
-            ResultSetMetaData rsmd;
-            int iColCnt;
-            int iRuleCodeType = Constants.CODETYPE_ALIAS;
-
-            // API ID split
-            String apiId = recvMap.get("apiId");
-            if (apiId == null || apiId.trim().isEmpty()) {
-                log.warn("apiId가 null 또는 비어있음");
-                return rstList;
+            // 🔁 증분 모드: 입력 / 룰 버전이 바뀐 건만 평가
+            if (incrementalEvaluator != null) {
+                return incrementalEvaluator.evaluate(new ArrayList<>(items), context, API_TIMEOUT_MINUTES, TimeUnit.MINUTES);
             }
 
-            String[] apiArr = apiId.split(",");
-
-            for (String api : apiArr) {
-                req.setRuleCode(api.trim());
-                req.setDate(recvMap.get("batchExecDt"));
-                req.resetItems();
-
-                // ⚡ InnoRules API 파라미터 설정
-                setRuleRequestParams(req, paramItem);
-
-                // 룰 실행
-                intf = ClusterManager.getInterface();
-                rs = intf.execute(req);
-
-                // 결과 파싱
-                while (rs.next()) {
-                    RuleWlessChkResltItem rstItem = new RuleWlessChkResltItem();
-
-                    rsmd = rs.getMetaData();
-                    iColCnt = rsmd.getColumnCount();
-
-                    for (int i = 1; i <= iColCnt; i++) {
-                        item = rs.getItem(i);
-                        String colNm = rsmd.getColumnName(i, iRuleCodeType);
-
-                        // 컬럼 매핑
-                        mapResultToItem(rstItem, colNm, item, paramItem);
-                    }
-
-                    rstList.add(rstItem);
-                }
-            }
+            // ⏳ 모든 API 호출 완료 대기
+            return ruleCallScheduler.<PpWlessabcTxnItem, RuleWlessChkResltItem>dispatch(partitionGbn, items,
+                PpWlessabcTxnItem::getSvcContId,
+                (subBatch, failures) -> ruleEvaluator.evaluateBatch(subBatch, context, failures),
+                API_TIMEOUT_MINUTES, TimeUnit.MINUTES);
 
-        } catch (RulesException e) {
-            log.error("[Partition {}] InnoRules API 오류: svcContId={}",
-                partitionGbn, paramItem.getSvcContId(), e);
-            throw e;
         } catch (Exception e) {
-            log.error("[Partition {}] 룰엔진 호출 오류: svcContId={}",
-                partitionGbn, paramItem.getSvcContId(), e);
+            log.error("[Partition {}] 서브 배치 처리 실패", partitionGbn, e);
             throw e;
+        } finally {
+            EVALUATE_TIMER.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
         }
-
-        return rstList;
-    }
-
-    /**
-     * InnoRules API 파라미터 설정
-     * (기존 Processor 로직과 동일)
-     */
-    private void setRuleRequestParams(RuleReq req, PpWlessabcTxnItem paramItem) {
-        req.addStringItem("base_date").add(paramItem.getBaseDate());
-        req.addStringItem("wrkjob_ym").add(paramItem.getWrkjobYm());
-        req.addStringItem("base_ym").add(paramItem.getBaseYm());
-        req.addStringItem("svc_cont_id").add(paramItem.getSvcContId());
-        req.addStringItem("ev_occ_dt").add(paramItem.getEvOccDt());
-        req.addStringItem("sbsc_div_cd").add(paramItem.getSbscDivCd());
-        req.addStringItem("svc_cont_div_cd").add(paramItem.getSvcContDivCd());
-        req.addStringItem("chk_scope_val").add(paramItem.getWrkjobScope());
-        req.addStringItem("adm_org_id").add(paramItem.getAdmOrgId());
-        req.addStringItem("cpnt_id").add(paramItem.getCpntId());
-        // ... 나머지 모든 필드 (기존 Processor와 동일)
-        // 실제 구현 시 WlessMabcQatCplyPerpProcessor의 모든 필드 설정 로직 복사
     }
 
     /**
-     * 결과 매핑
+     * 파티션 룰 호출 정보 (룰 코드 목록 1회 파싱)
      */
-    private void mapResultToItem(RuleWlessChkResltItem rstItem,
-                                  String colNm,
-                                  Item item,
-                                  PpWlessabcTxnItem paramItem) {
-        // 기존 Processor의 매핑 로직 이관
-        // 실제 구현 시 WlessMabcQatCplyPerpProcessor의 매핑 로직 복사
+    private RuleCallContext getRuleCallContext() {
+        if (ruleCallContext == null) {
+            ruleCallContext = RuleCallContext.of(partitionGbn, recvMap.get("apiId"), recvMap.get("batchExecDt"));
+            if (!ruleCallContext.hasRuleCodes()) {
+                log.warn("[Partition {}] apiId가 null 또는 비어있음", partitionGbn);
+            }
+        }
+        return ruleCallContext;
     }
 
     /**
      * 결과 일괄 저장
      */
-    private void saveResults(List<RuleWlessChkResltItem> results) {
+    private void saveResults(List<RuleWlessChkResltItem> results) throws InterruptedException {
+
+        long startNanos = System.nanoTime();
 
         try {
+            if (writeBehind != null) {
+                // 📤 write-behind 버퍼로 전달 (적재는 전용 쓰레드, 이전 적재 실패 시 예외 → 청크 실패)
+                writeBehind.submit(partitionGbn, resultTable, results);
+                log.debug("[Partition {}] 결과 적재 요청: {}건", partitionGbn, results.size());
+                return;
+            }
+
             Map<String, Object> fixedValues = new HashMap<>();
             fixedValues.put("regUser", "batch");
             fixedValues.put("regDate", "SQL::now()");
@@ -354,9 +232,9 @@ public class WlessMabcBatchWriter implements ItemWriter<PpWlessabcTxnItem> {
 
             Set<String> excludeFields = Set.of("serialVersionUID");
 
-            // 💾 BatchInsertDao로 일괄 저장
-            batchInsertDao.batchInsert(
-                "abcBAT.TMP_RULE_WLESS_CHK_RESLT_01",
+            // 💾 일괄 저장 (BatchInsertDao INSERT 또는 COPY)
+            resultLoader().load(
+                resultTable,
                 results,
                 excludeFields,
                 fixedValues
@@ -367,6 +245,19 @@ public class WlessMabcBatchWriter implements ItemWriter<PpWlessabcTxnItem> {
         } catch (Exception e) {
             log.error("[Partition {}] 결과 저장 실패: {}건", partitionGbn, results.size(), e);
             throw e;
+        } finally {
+            WRITE_TIMER.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
         }
     }
+
+    private BulkLoadStrategy resultLoader() {
+        return bulkLoadStrategy != null ? bulkLoadStrategy : batchInsertDao::batchInsert;
+    }
+
+    private static Timer batchTimer(String stage) {
+        return Timer.builder("wless.batch.duration")
+            .tags("design", "paging-writer", "stage", stage)
+            .publishPercentiles(0.99)
+            .register(Metrics.globalRegistry);
+    }
 }
@@ -5,10 +5,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.executor.ExecutorType;
@@ -24,16 +27,11 @@ import com.abc.batch.domain.PpWlessabcTxnItem;
 import com.abc.batch.domain.RuleWlessChkResltItem;
 import com.abc.batch.mapper.WlessPartiMapper;
 import com.abc.job.util.BatchInsertDao;
-import com.innoexpert.rulesclient.ClusterManager;
-import com.innoexpert.rulesclient.Constants;
-import com.innoexpert.rulesclient.Item;
-import com.innoexpert.rulesclient.ResultSet;
-import com.innoexpert.rulesclient.ResultSetMetaData;
-import com.innoexpert.rulesclient.RuleInterface;
-import com.innoexpert.rulesclient.RuleReq;
-import com.innoexpert.rulesclient.RulesException;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -46,9 +44,19 @@ import lombok.extern.slf4j.Slf4j;
  * 4. 결과 일괄 저장
  * 5. 반복
  *
+ * 파이프라인 모드 (pipelined=true):
+ * - 읽기(Cursor) / 평가(룰엔진) / 쓰기(BatchInsertDao) 3단계를 bounded 큐로 연결
+ * - N번째 배치 평가 중 N+1번째 배치 읽기, N-1번째 배치 저장이 동시에 진행
+ * - 큐가 가득 차면 앞 단계가 대기 (backpressure)
+ * - 저장은 별도 쓰레드에서 수행되므로 Step 트랜잭션과 분리되어 배치 단위로 커밋됨
+ *
+ * write-behind (writeBehind 설정 시):
+ * - 저장은 Job 공유 RuleResultWriteBehind 전용 쓰레드에서 수행 (파티션 간 결과를 모아 flush)
+ * - 파티션 종료 전 해당 파티션 결과 적재 완료 대기 (적재 실패 시 Step 실패)
+ *
  * 병렬 구조:
  * - 외부: Partitioner 15개 (이 Tasklet이 15개 파티션에서 실행)
- * - 내부: ExecutorService 5개 (이 Tasklet 내부에서 병렬 처리)
+ * - 내부: Job 공유 RuleCallScheduler에서 파티션당 5개 슬롯 사용
  * - 총: 15 × 5 = 75개 동시 API 호출
  *
  * @author Claude Code
@@ -62,20 +70,46 @@ public class WlessMabcCursorTasklet implements Tasklet {
     private final SqlSessionFactory sqlSessionFactory;
     private final BatchInsertDao batchInsertDao;
     private final WlessPartiMapper wlessMapper;
-    private int tableNumber;
+    private final RuleCallScheduler ruleCallScheduler;
+    private final WlessRuleEvaluator ruleEvaluator;
 
-    // 배치 크기 (1000건씩 처리)
-    private static final int BATCH_SIZE = 1000;
+    // 읽기/평가/쓰기 파이프라인 사용 여부
+    @Setter
+    private boolean pipelined;
 
-    // 병렬 처리 수 (5개 병렬 API 호출)
-    private static final int PARALLEL_COUNT = 5;
+    // 파이프라인 단계 사이 큐 크기 (배치 수)
+    @Setter
+    private int pipelineDepth = 2;
 
-    // API 재시도 횟수
-    private static final int MAX_RETRIES = 3;
+    // 증분 평가 (null이면 전체 평가)
+    @Setter
+    private IncrementalRuleEvaluator incrementalEvaluator;
+
+    // 결과 임시테이블 적재 방식 (null이면 BatchInsertDao INSERT)
+    @Setter
+    private BulkLoadStrategy bulkLoadStrategy;
+
+    // 결과 write-behind (null이면 호출 쓰레드에서 바로 저장)
+    @Setter
+    private RuleResultWriteBehind writeBehind;
+
+    // 파티션별 결과 staging 테이블 (null이면 결과 임시테이블에 직접 저장)
+    @Setter
+    private ResultStagingTables resultStaging;
+
+    // 배치 크기 (1000건씩 처리)
+    private static final int BATCH_SIZE = 1000;
 
     // API 타임아웃 (분)
     private static final int API_TIMEOUT_MINUTES = 5;
 
+    // 배치 단계별 소요시간 (p99 포함, 처리량 하네스 / 모니터링)
+    private static final Timer EVALUATE_TIMER = batchTimer("evaluate");
+    private static final Timer WRITE_TIMER = batchTimer("write");
+
+    // 파이프라인 큐 대기 중 실패 여부 확인 주기 (ms)
+    private static final long HAND_OFF_POLL_MILLIS = 1000L;
+
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
 
@@ -97,7 +131,16 @@ public class WlessMabcCursorTasklet implements Tasklet {
                     params)) {
 
             // Cursor 스트리밍 처리
-            processCursorInBatches(cursor, params);
+            if (pipelined) {
+                processCursorPipelined(cursor, params);
+            } else {
+                processCursorInBatches(cursor, params);
+            }
+
+            // write-behind: 파티션 결과가 모두 적재되어야 Step 완료 (적재 실패 시 Step 실패)
+            if (writeBehind != null) {
+                writeBehind.awaitPartition(String.valueOf(params.get("threadNo")));
+            }
 
             log.info("[A방법-Cursor+Tasklet] Partition {} 완료", params.get("threadNo"));
 
@@ -162,279 +205,232 @@ public class WlessMabcCursorTasklet implements Tasklet {
     }
 
     /**
-     * 1000건 배치를 5개로 분할하여 병렬 처리
+     * Cursor를 읽기 / 평가 / 쓰기 3단계 파이프라인으로 처리
      *
-     * ⚡ 병렬 구조:
-     * - 각 파티션 내부에서 5개 쓰레드로 병렬 API 호출
-     * - 1000건 → 200건씩 5개로 분할
-     * - ExecutorService(5) 사용
+     * - 읽기: 현재 쓰레드 (Cursor를 연 쓰레드에서 계속 읽음)
+     * - 평가: 파티션 전용 쓰레드 1개 → RuleCallScheduler로 병렬 API 호출
+     * - 쓰기: 파티션 전용 쓰레드 1개 → saveResults
+     * - 어느 단계든 실패하면 나머지 단계도 중단 후 예외 전파
      */
-    private void processBatch(List<PpWlessabcTxnItem> batch,
-                             Map<String, Object> params,
-                             int batchNumber) throws Exception {
+    private void processCursorPipelined(Cursor<PpWlessabcTxnItem> cursor,
+                                        Map<String, Object> params) throws Exception {
 
-        long batchStartTime = System.currentTimeMillis();
+        BlockingQueue<PipelineBatch> evaluateQueue = new ArrayBlockingQueue<>(pipelineDepth);
+        BlockingQueue<PipelineBatch> writeQueue = new ArrayBlockingQueue<>(pipelineDepth);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
 
-        log.debug("[Partition {} - Batch {}] 처리 시작: {}건",
-            params.get("threadNo"), batchNumber, batch.size());
+        String threadNo = String.valueOf(params.get("threadNo"));
+        ExecutorService stages = Executors.newFixedThreadPool(2,
+            r -> new Thread(r, "cursor-pipeline-" + threadNo));
 
-        // 1000건을 5개로 분할 (각 200건)
-        int subBatchSize = (int) Math.ceil((double) batch.size() / PARALLEL_COUNT);
+        java.util.Iterator<PpWlessabcTxnItem> iterator = cursor.iterator();
+        int processedCount = 0;
+        int batchCount = 0;
 
-        // ⚡ 병렬 5개로 API 호출
-        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_COUNT);
-        List<CompletableFuture<List<RuleWlessChkResltItem>>> futures = new ArrayList<>();
+        long startTime = System.currentTimeMillis();
 
         try {
-            for (int i = 0; i < PARALLEL_COUNT; i++) {
-                int start = i * subBatchSize;
-                int end = Math.min(start + subBatchSize, batch.size());
-
-                if (start >= batch.size()) break;
-
-                // 서브 배치 생성 (200건)
-                List<PpWlessabcTxnItem> subBatch = new ArrayList<>(batch.subList(start, end));
-                final int partitionIndex = i;
-
-                // 🔥 비동기 API 호출
-                futures.add(CompletableFuture.supplyAsync(() -> {
-                    long subBatchStart = System.currentTimeMillis();
-
-                    log.debug("[Partition {} - Batch {} - Sub {}] API 호출 시작: {}건",
-                        params.get("threadNo"), batchNumber, partitionIndex, subBatch.size());
-
-                    List<RuleWlessChkResltItem> results = callRuleEngineForBatch(subBatch, params);
-
-                    long subBatchDuration = System.currentTimeMillis() - subBatchStart;
-                    log.debug("[Partition {} - Batch {} - Sub {}] API 호출 완료: {}건 → {}결과 ({}ms)",
-                        params.get("threadNo"), batchNumber, partitionIndex,
-                        subBatch.size(), results.size(), subBatchDuration);
-
-                    return results;
-
-                }, executor));
-            }
+            // 🔥 평가 단계
+            Future<?> evaluateStage = stages.submit(() -> {
+                try {
+                    while (true) {
+                        PipelineBatch batch = takeNext(evaluateQueue, failure);
+                        if (batch == null) {
+                            break;
+                        }
+                        if (batch == PipelineBatch.END) {
+                            handOff(writeQueue, PipelineBatch.END, failure);
+                            break;
+                        }
+                        batch.results = evaluateBatch(batch.items, params, batch.batchNumber);
+                        batch.items = null;
+                        handOff(writeQueue, batch, failure);
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
 
-            // ⏳ 모든 API 호출 완료 대기 (최대 5분)
-            List<RuleWlessChkResltItem> allResults = new ArrayList<>();
-            for (CompletableFuture<List<RuleWlessChkResltItem>> future : futures) {
+            // 💾 쓰기 단계
+            Future<?> writeStage = stages.submit(() -> {
                 try {
-                    allResults.addAll(future.get(API_TIMEOUT_MINUTES, TimeUnit.MINUTES));
-                } catch (Exception e) {
-                    log.error("[Partition {} - Batch {}] 서브 배치 처리 실패",
-                        params.get("threadNo"), batchNumber, e);
-                    throw e;
+                    while (true) {
+                        PipelineBatch batch = takeNext(writeQueue, failure);
+                        if (batch == null || batch == PipelineBatch.END) {
+                            break;
+                        }
+                        if (!batch.results.isEmpty()) {
+                            saveResults(batch.results, params);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+
+            // 📖 읽기 단계
+            List<PpWlessabcTxnItem> batch = new ArrayList<>(BATCH_SIZE);
+            while (failure.get() == null && iterator.hasNext()) {
+                batch.add(iterator.next());
+
+                if (batch.size() == BATCH_SIZE) {
+                    batchCount++;
+                    handOff(evaluateQueue, new PipelineBatch(batchCount, batch), failure);
+                    processedCount += batch.size();
+                    batch = new ArrayList<>(BATCH_SIZE);
+
+                    if (batchCount % 10 == 0) {
+                        long elapsed = (System.currentTimeMillis() - startTime) / 1000;
+                        log.info("[Partition {}] 진행 중... 읽기: {}건, 배치: {}개, 경과: {}초",
+                            threadNo, processedCount, batchCount, elapsed);
+                    }
                 }
             }
 
-            // 💾 일괄 저장
-            if (!allResults.isEmpty()) {
-                saveResults(allResults, params);
+            if (!batch.isEmpty() && failure.get() == null) {
+                batchCount++;
+                handOff(evaluateQueue, new PipelineBatch(batchCount, batch), failure);
+                processedCount += batch.size();
             }
 
-            long batchDuration = System.currentTimeMillis() - batchStartTime;
-            log.debug("[Partition {} - Batch {}] 처리 완료: {}건 → {}결과 ({}ms)",
-                params.get("threadNo"), batchNumber, batch.size(), allResults.size(), batchDuration);
+            handOff(evaluateQueue, PipelineBatch.END, failure);
+
+            evaluateStage.get();
+            writeStage.get();
 
         } finally {
-            executor.shutdown();
-            if (!executor.awaitTermination(10, TimeUnit.MINUTES)) {
-                log.warn("[Partition {}] ExecutorService 강제 종료", params.get("threadNo"));
-                executor.shutdownNow();
+            stages.shutdownNow();
+        }
+
+        Throwable error = failure.get();
+        if (error != null) {
+            log.error("[Partition {}] 파이프라인 처리 실패", threadNo, error);
+            if (error instanceof Exception) {
+                throw (Exception) error;
             }
+            throw new IllegalStateException(error);
         }
+
+        long totalTime = (System.currentTimeMillis() - startTime) / 1000;
+
+        log.info("=================================================================");
+        log.info("[Partition {}] 파이프라인 처리 완료: 총 {}건, {}배치, {}초 소요",
+            threadNo, processedCount, batchCount, totalTime);
+        log.info("=================================================================");
     }
 
     /**
-     * 배치 단위로 룰엔진 API 호출
-     * (서브 배치: 약 200건)
+     * 다음 단계 큐에 배치 전달
+     *
+     * - 큐가 가득 차면 대기 (backpressure)
+     * - 대기 중 다른 단계가 실패하면 즉시 중단
      */
-    private List<RuleWlessChkResltItem> callRuleEngineForBatch(
-            List<PpWlessabcTxnItem> items,
-            Map<String, Object> params) {
-
-        List<RuleWlessChkResltItem> batchResults = new ArrayList<>();
-
-        for (PpWlessabcTxnItem item : items) {
-            try {
-                // 개별 아이템에 대해 룰엔진 호출 (재시도 포함)
-                List<RuleWlessChkResltItem> itemResults = callRuleEngineWithRetry(item, params);
-                batchResults.addAll(itemResults);
+    private void handOff(BlockingQueue<PipelineBatch> queue,
+                         PipelineBatch batch,
+                         AtomicReference<Throwable> failure) throws InterruptedException {
 
-            } catch (Exception e) {
-                log.error("[Partition {}] 아이템 처리 실패: svcContId={}",
-                    params.get("threadNo"), item.getSvcContId(), e);
-
-                // 실패 건 별도 처리 (선택사항)
-                // saveFailedItem(item, e, params);
-
-                // 계속 진행 (다음 아이템 처리)
+        while (!queue.offer(batch, HAND_OFF_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (failure.get() != null) {
+                return;
             }
         }
-
-        return batchResults;
     }
 
     /**
-     * 룰엔진 API 호출 (재시도 포함)
+     * 앞 단계 큐에서 다음 배치 수신
+     *
+     * - 대기 중 다른 단계가 실패하면 null 반환
      */
-    private List<RuleWlessChkResltItem> callRuleEngineWithRetry(
-            PpWlessabcTxnItem item,
-            Map<String, Object> params) {
-
-        int retryCount = 0;
-        Exception lastException = null;
-
-        while (retryCount < MAX_RETRIES) {
-            try {
-                return callRuleEngine(item, params);
-
-            } catch (Exception e) {
-                lastException = e;
-                retryCount++;
-
-                if (retryCount < MAX_RETRIES) {
-                    log.warn("[Partition {}] API 재시도 {}/{}: svcContId={}",
-                        params.get("threadNo"), retryCount, MAX_RETRIES, item.getSvcContId());
-
-                    try {
-                        // Exponential backoff
-                        Thread.sleep(1000L * retryCount);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
+    private PipelineBatch takeNext(BlockingQueue<PipelineBatch> queue,
+                                   AtomicReference<Throwable> failure) throws InterruptedException {
+
+        while (failure.get() == null) {
+            PipelineBatch batch = queue.poll(HAND_OFF_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (batch != null) {
+                return batch;
             }
         }
-
-        log.error("[Partition {}] API 최종 실패 (재시도 {}회): svcContId={}",
-            params.get("threadNo"), MAX_RETRIES, item.getSvcContId(), lastException);
-
-        // 빈 결과 반환 (또는 예외 throw)
-        return new ArrayList<>();
+        return null;
     }
 
     /**
-     * 룰엔진 API 호출 (실제 InnoRules 호출)
-     *
-     * 기존 WlessMabcQatCplyPerpProcessor.ruleCall() 로직 이관
+     * 1000건 배치 처리 (평가 + 저장)
      */
-    private List<RuleWlessChkResltItem> callRuleEngine(
-            PpWlessabcTxnItem paramItem,
-            Map<String, Object> params) throws Exception {
-
-        List<RuleWlessChkResltItem> rstList = new ArrayList<>();
-
-        try {
-            RuleInterface intf = null;
-            RuleReq req = new RuleReq();
-            ResultSet rs;
-            Item item;
-            ResultSetMetaData rsmd;
-            int iColCnt;
-            int iRuleCodeType = Constants.CODETYPE_ALIAS;
-
-            // API ID split (여러 API 호출 가능)
-            String apiId = (String) params.get("apiId");
-            if (apiId == null || apiId.trim().isEmpty()) {
-                log.warn("apiId가 null 또는 비어있음");
-                return rstList;
-            }
+    private void processBatch(List<PpWlessabcTxnItem> batch,
+                             Map<String, Object> params,
+                             int batchNumber) throws Exception {
 
-            String[] apiArr = apiId.split(",");
+        long batchStartTime = System.currentTimeMillis();
 
-            for (String api : apiArr) {
-                req.setRuleCode(api.trim());
-                req.setDate((String) params.get("batchExecDt"));
-                req.resetItems();
+        log.debug("[Partition {} - Batch {}] 처리 시작: {}건",
+            params.get("threadNo"), batchNumber, batch.size());
 
-                // ⚡ InnoRules API 파라미터 설정 (모든 필드)
-                setRuleRequestParams(req, paramItem);
+        List<RuleWlessChkResltItem> allResults = evaluateBatch(batch, params, batchNumber);
 
-                // 룰 실행
-                intf = ClusterManager.getInterface();
-                rs = intf.execute(req);
+        // 💾 일괄 저장
+        if (!allResults.isEmpty()) {
+            saveResults(allResults, params);
+        }
 
-                // 결과 파싱
-                while (rs.next()) {
-                    RuleWlessChkResltItem rstItem = new RuleWlessChkResltItem();
+        long batchDuration = System.currentTimeMillis() - batchStartTime;
+        log.debug("[Partition {} - Batch {}] 처리 완료: {}건 → {}결과 ({}ms)",
+            params.get("threadNo"), batchNumber, batch.size(), allResults.size(), batchDuration);
+    }
 
-                    rsmd = rs.getMetaData();
-                    iColCnt = rsmd.getColumnCount();
+    /**
+     * 1000건 배치를 병렬 API 호출
+     *
+     * ⚡ 병렬 구조:
+     * - 각 파티션 내부에서 5개 슬롯으로 병렬 API 호출
+     * - STATIC : 1000건 → 200건씩 5개로 분할
+     * - DYNAMIC: 5개 워커가 공유 큐에서 micro-batch 단위로 가져감
+     * - Job 공유 RuleCallScheduler 사용 (배치마다 쓰레드 풀 생성하지 않음)
+     * - 증분 모드: 이전 실행과 입력이 같은 건은 룰 호출 생략 (결과는 BrmsInsertStep에서 이월)
+     */
+    private List<RuleWlessChkResltItem> evaluateBatch(List<PpWlessabcTxnItem> batch,
+                                                      Map<String, Object> params,
+                                                      int batchNumber) throws Exception {
 
-                    for (int i = 1; i <= iColCnt; i++) {
-                        item = rs.getItem(i);
-                        String colNm = rsmd.getColumnName(i, iRuleCodeType);
+        RuleCallContext context = (RuleCallContext) params.get("ruleCallContext");
 
-                        // 컬럼 매핑 로직 (필요시 확장)
-                        mapResultToItem(rstItem, colNm, item, paramItem, params);
-                    }
+        long startNanos = System.nanoTime();
 
-                    rstList.add(rstItem);
-                }
+        try {
+            // 🔁 증분 모드: 입력 / 룰 버전이 바뀐 건만 평가
+            if (incrementalEvaluator != null) {
+                return incrementalEvaluator.evaluate(batch, context, API_TIMEOUT_MINUTES, TimeUnit.MINUTES);
             }
 
-        } catch (RulesException e) {
-            log.error("[Partition {}] InnoRules API 오류: svcContId={}",
-                params.get("threadNo"), paramItem.getSvcContId(), e);
-            throw e;
+            // ⏳ 모든 API 호출 완료 대기 (최대 5분)
+            return ruleCallScheduler.dispatch(context.getPartitionKey(), batch, PpWlessabcTxnItem::getSvcContId,
+                (subBatch, failures) -> ruleEvaluator.evaluateBatch(subBatch, context, failures),
+                API_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+
         } catch (Exception e) {
-            log.error("[Partition {}] 룰엔진 호출 오류: svcContId={}",
-                params.get("threadNo"), paramItem.getSvcContId(), e);
+            log.error("[Partition {} - Batch {}] 서브 배치 처리 실패",
+                params.get("threadNo"), batchNumber, e);
             throw e;
+        } finally {
+            EVALUATE_TIMER.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
         }
-
-        return rstList;
-    }
-
-    /**
-     * InnoRules API 파라미터 설정
-     * (기존 Processor 로직과 동일)
-     */
-    private void setRuleRequestParams(RuleReq req, PpWlessabcTxnItem paramItem) {
-        req.addStringItem("base_date").add(paramItem.getBaseDate());
-        req.addStringItem("wrkjob_ym").add(paramItem.getWrkjobYm());
-        req.addStringItem("base_ym").add(paramItem.getBaseYm());
-        req.addStringItem("svc_cont_id").add(paramItem.getSvcContId());
-        req.addStringItem("ev_occ_dt").add(paramItem.getEvOccDt());
-        req.addStringItem("sbsc_div_cd").add(paramItem.getSbscDivCd());
-        req.addStringItem("svc_cont_div_cd").add(paramItem.getSvcContDivCd());
-        req.addStringItem("chk_scope_val").add(paramItem.getWrkjobScope());
-        req.addStringItem("adm_org_id").add(paramItem.getAdmOrgId());
-        req.addStringItem("cpnt_id").add(paramItem.getCpntId());
-        req.addNumberItem("same_nfl_vqnt_circuit_cnt").add(paramItem.getSameNflVqntCircuitCnt());
-        req.addNumberItem("same_nfl_mysh_vqnt_circuit_cnt").add(paramItem.getSameNflMyshVqntCircuitCnt());
-        req.addStringItem("cust_bthday_date").add(paramItem.getCustBthdayDate());
-        req.addStringItem("crclt_sho_nflr_yn").add(paramItem.getCrcltShoNflrYn());
-        req.addStringItem("new_icg_dt").add(paramItem.getNewIcgDt());
-        req.addNumberItem("npay_tmscnt").add(paramItem.getNpayTmscnt());
-        req.addNumberItem("npay_amt").add(paramItem.getNpayAmt());
-        // ... 나머지 필드들 (기존 Processor와 동일하게 모두 추가)
-        // 실제 구현 시 WlessMabcQatCplyPerpProcessor의 모든 필드 설정 로직을 복사
     }
 
     /**
-     * 결과 매핑 (RuleWlessChkResltItem에 매핑)
-     */
-    private void mapResultToItem(RuleWlessChkResltItem rstItem,
-                                  String colNm,
-                                  Item item,
-                                  PpWlessabcTxnItem paramItem,
-                                  Map<String, Object> params) {
-
-        // 기존 Processor의 매핑 로직 이관
-        // 컬럼명에 따라 rstItem의 필드에 값 설정
-        // 실제 구현 시 WlessMabcQatCplyPerpProcessor의 매핑 로직 복사
-    }
-
-    /**
-     * 결과 일괄 저장 (BatchInsertDao 사용)
+     * 결과 일괄 저장 (BulkLoadStrategy 미설정 시 BatchInsertDao 사용)
      */
     private void saveResults(List<RuleWlessChkResltItem> results,
-                            Map<String, Object> params) {
+                            Map<String, Object> params) throws InterruptedException {
+
+        long startNanos = System.nanoTime();
 
         try {
+            if (writeBehind != null) {
+                // 📤 write-behind 버퍼로 전달 (적재는 전용 쓰레드, 버퍼가 가득 차면 대기)
+                writeBehind.submit(String.valueOf(params.get("threadNo")), resultTable(params), results);
+                log.debug("[Partition {}] 결과 적재 요청: {}건", params.get("threadNo"), results.size());
+                return;
+            }
+
             Map<String, Object> fixedValues = new HashMap<>();
             fixedValues.put("regUser", "batch");
             fixedValues.put("regDate", "SQL::now()");
@@ -443,9 +439,9 @@ public class WlessMabcCursorTasklet implements Tasklet {
 
             Set<String> excludeFields = Set.of("serialVersionUID");
 
-            // 💾 BatchInsertDao로 일괄 저장
-            batchInsertDao.batchInsert(
-                "abcBAT.TMP_RULE_WLESS_CHK_RESLT_01",
+            // 💾 일괄 저장 (BatchInsertDao INSERT 또는 COPY)
+            resultLoader().load(
+                resultTable(params),
                 results,
                 excludeFields,
                 fixedValues
@@ -458,6 +454,8 @@ public class WlessMabcCursorTasklet implements Tasklet {
             log.error("[Partition {}] 결과 저장 실패: {}건",
                 params.get("threadNo"), results.size(), e);
             throw e;
+        } finally {
+            WRITE_TIMER.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
         }
     }
 
@@ -487,11 +485,35 @@ public class WlessMabcCursorTasklet implements Tasklet {
 
         // 추가 파라미터
         params.put("pool_size", stepExecutionContext.get("pool_size"));
-        params.put("tableNumber", tableNumber);
+        // SplitTableVacuum.beforeStep이 vacuum 대기한 테이블과 같은 값
+        params.put("tableNumber", stepExecutionContext.get("tableNumber"));
+
+        // 룰 코드 목록은 파티션 시작 시 1회만 파싱
+        RuleCallContext ruleCallContext = RuleCallContext.of(String.valueOf(params.get("threadNo")),
+            (String) params.get("apiId"), (String) params.get("batchExecDt"));
+        if (!ruleCallContext.hasRuleCodes()) {
+            log.warn("[Partition {}] apiId가 null 또는 비어있음", params.get("threadNo"));
+        }
+        params.put("ruleCallContext", ruleCallContext);
 
         return params;
     }
 
+    private String resultTable(Map<String, Object> params) {
+        return resultStaging != null ? resultStaging.tableFor(params.get("threadNo")) : ResultStagingTables.BASE_TABLE;
+    }
+
+    private BulkLoadStrategy resultLoader() {
+        return bulkLoadStrategy != null ? bulkLoadStrategy : batchInsertDao::batchInsert;
+    }
+
+    private static Timer batchTimer(String stage) {
+        return Timer.builder("wless.batch.duration")
+            .tags("design", "cursor-tasklet", "stage", stage)
+            .publishPercentiles(0.99)
+            .register(Metrics.globalRegistry);
+    }
+
     /**
      * 메모리 사용량 로깅 (디버깅용)
      */
@@ -506,4 +528,22 @@ public class WlessMabcCursorTasklet implements Tasklet {
         log.debug("[Partition {} - Memory] {} - Used: {}MB, Free: {}MB, Total: {}MB, Max: {}MB",
             params.get("threadNo"), phase, usedMemory, freeMemory, totalMemory, maxMemory);
     }
+
+    /**
+     * 파이프라인 단계 사이에서 전달되는 배치
+     */
+    private static class PipelineBatch {
+
+        // 읽기 종료 표시
+        static final PipelineBatch END = new PipelineBatch(-1, null);
+
+        final int batchNumber;
+        List<PpWlessabcTxnItem> items;
+        List<RuleWlessChkResltItem> results;
+
+        PipelineBatch(int batchNumber, List<PpWlessabcTxnItem> items) {
+            this.batchNumber = batchNumber;
+            this.items = items;
+        }
+    }
 }
@@ -3,12 +3,17 @@ package com.abc.batch.job.test;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
 
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -62,22 +67,190 @@ public class WlessMabcCursorTaskletJobConfiguration {
 	@Autowired
 	private BatchInsertDao batchInsertDao;
 
+	@Autowired
+	private JobExplorer jobExplorer;
+
 	private static final String job_name = "wlessMabcCursorTaskletJob";
 
+	// 파티션당 병렬 API 호출 수
+	private static final int parallel_count = 5;
+
 	@Value("${batch-job-thread-count}")
 	private int pool_size;
 
+	// 룰엔진 호출 실행 모드 (PLATFORM / VIRTUAL)
+	@Value("${rule-call-mode:PLATFORM}")
+	private String ruleCallMode;
+
+	// VIRTUAL 모드의 Job 전체 동시 호출 상한
+	@Value("${rule-call-max-in-flight:75}")
+	private int ruleCallMaxInFlight;
+
+	// 배치 분배 방식 (STATIC: 200건 × 5 고정 분할 / DYNAMIC: 공유 큐 work-stealing)
+	@Value("${rule-call-dispatch-mode:STATIC}")
+	private String ruleCallDispatchMode;
+
+	// DYNAMIC 분배 시 워커가 한 번에 가져가는 건수
+	@Value("${rule-call-micro-batch-size:10}")
+	private int ruleCallMicroBatchSize;
+
+	// 룰엔진 동시 호출 수 적응형 제한 사용 여부 (기본 꺼짐)
+	@Value("${rule-call-adaptive-limit:false}")
+	private boolean ruleCallAdaptiveLimit;
+
+	// 적응형 제한 하한
+	@Value("${rule-call-adaptive-min-limit:5}")
+	private int ruleCallAdaptiveMinLimit;
+
+	// 적응형 제한 상한 (0이면 스케줄러 최대 동시 호출 수, rule-call-concurrent-rule-codes 사용 시 fork 호출만큼 크게 설정)
+	@Value("${rule-call-adaptive-max-limit:0}")
+	private int ruleCallAdaptiveMaxLimit;
+
+	// 건당 최대 시도 횟수 (최초 호출 포함)
+	@Value("${rule-call-max-attempts:3}")
+	private int ruleCallMaxAttempts;
+
+	// 재시도 지연 기준값 (ms, 시도마다 2배 + jitter)
+	@Value("${rule-call-retry-base-delay-ms:1000}")
+	private long ruleCallRetryBaseDelayMs;
+
+	// 파티션별 재시도 예산 (처리 건수 대비 비율)
+	@Value("${rule-call-retry-budget-ratio:0.1}")
+	private double ruleCallRetryBudgetRatio;
+
+	// 룰엔진 서킷 브레이커 사용 여부 (기본 꺼짐)
+	@Value("${rule-call-circuit-breaker:false}")
+	private boolean ruleCallCircuitBreaker;
+
+	// 서킷 OPEN 실패율 (최근 rule-call-circuit-window건 기준)
+	@Value("${rule-call-circuit-failure-rate:0.5}")
+	private double ruleCallCircuitFailureRate;
+
+	@Value("${rule-call-circuit-window:50}")
+	private int ruleCallCircuitWindow;
+
+	// 서킷 OPEN 유지 시간 (ms, 연속 OPEN마다 2배)
+	@Value("${rule-call-circuit-open-ms:2000}")
+	private long ruleCallCircuitOpenMs;
+
+	// 연속 OPEN 허용 횟수 (초과 시 룰엔진 호출 중단 → Step 실패)
+	@Value("${rule-call-circuit-max-opens:3}")
+	private int ruleCallCircuitMaxOpens;
+
+	// 1건의 여러 룰 코드(apiId)를 동시에 호출할지 여부
+	@Value("${rule-call-concurrent-rule-codes:false}")
+	private boolean ruleCallConcurrentRuleCodes;
+
+	// 벌크 요청 1회에 담는 건수 (1이면 건 단위 호출)
+	@Value("${rule-call-bulk-size:1}")
+	private int ruleCallBulkSize;
+
+	// 벡터 입력을 받는 룰 코드 (콤마 구분, 벌크 요청 대상)
+	@Value("${rule-call-bulk-rule-codes:}")
+	private String ruleCallBulkRuleCodes;
+
+	// 같은 룰 입력 결과 재사용 (메모이제이션) 여부
+	@Value("${rule-call-memo:false}")
+	private boolean ruleCallMemo;
+
+	// 메모이제이션 캐시 상한 (결과 행 수)
+	@Value("${rule-call-memo-max-rows:200000}")
+	private long ruleCallMemoMaxRows;
+
+	// 증분 평가 (전일과 룰 입력 / 룰 버전이 같은 건은 이전 결과 이월) 여부
+	@Value("${rule-call-incremental:false}")
+	private boolean ruleCallIncremental;
+
+	// 룰 코드별 버전 (룰코드=버전, 콤마 구분 / 버전이 바뀐 룰은 전체 재평가)
+	@Value("${rule-call-incremental-rule-versions:}")
+	private String ruleCallIncrementalRuleVersions;
+
+	// 로컬 stub 룰엔진 설정 (비어 있으면 실제 룰 클러스터 호출, 예: p50=20,p99=200,error=0.001,rateLimit=3000)
+	@Value("${rule-call-stub:}")
+	private String ruleCallStub;
+
+	// 결과 임시테이블 적재 방식 (INSERT: BatchInsertDao / JDBC_BATCH: 캐시된 SQL·접근자로 배치 INSERT / COPY: COPY FROM STDIN text / COPY_BINARY: binary)
+	@Value("${result-load-mode:INSERT}")
+	private String resultLoadMode;
+
+	// 결과 write-behind 사용 여부 (룰 호출 쓰레드와 결과 저장 분리, BrmsInsertStep 시작 시 전체 flush)
+	@Value("${result-write-behind:false}")
+	private boolean resultWriteBehind;
+
+	// write-behind 적재 쓰레드 수 (쓰레드당 적재 중 커넥션 1개)
+	@Value("${result-write-behind-threads:2}")
+	private int resultWriteBehindThreads;
+
+	// write-behind 버퍼 상한 (결과 행 수, 가득 차면 룰 호출 쪽 대기)
+	@Value("${result-write-behind-capacity:20000}")
+	private int resultWriteBehindCapacity;
+
+	// write-behind flush 기준 (건수 / 첫 건 대기 후 ms)
+	@Value("${result-write-behind-flush-rows:5000}")
+	private int resultWriteBehindFlushRows;
+
+	@Value("${result-write-behind-flush-ms:1000}")
+	private long resultWriteBehindFlushMs;
+
+	// 파티션별 결과 staging 테이블 (NONE: 결과 임시테이블 직접 적재 / INHERIT: 자식 테이블로 연결 / INSERT_SELECT: 병렬 INSERT ... SELECT)
+	@Value("${result-staging:NONE}")
+	private String resultStaging;
+
+	// INSERT_SELECT 병렬도 (커넥션 수)
+	@Value("${result-staging-merge-parallelism:4}")
+	private int resultStagingMergeParallelism;
+
+	// BrmsInsertStep 본테이블 인서트 병렬도 (svcContId 범위 수, 1이면 단일 insertRuleWlessChkReslt)
+	@Value("${brms-insert-parallelism:1}")
+	private int brmsInsertParallelism;
+
+	// 분할 임시테이블 DROP / 생성 병렬도 (1이면 순차)
+	@Value("${split-table-parallelism:1}")
+	private int splitTableParallelism;
+
+	// 분할 임시테이블 크기 상한 (건수 / MB / 이전 실행 건당 처리시간 기준 초, 0이면 미사용)
+	@Value("${split-table-max-rows:200000}")
+	private int splitTableMaxRows;
+
+	@Value("${split-table-max-mb:256}")
+	private long splitTableMaxMb;
+
+	@Value("${split-table-target-seconds:300}")
+	private long splitTableTargetSeconds;
+
+	// VacuumStep 테이블별 병렬 수행 (true: 파티션은 자기가 읽는 분할 테이블 vacuum만 대기 / false: 전체 완료 후 StepManager)
+	@Value("${vacuum-concurrent:false}")
+	private boolean vacuumConcurrent;
+
+	// vacuum 병렬도
+	@Value("${vacuum-parallelism:4}")
+	private int vacuumParallelism;
+
+	// 통계 최신 기준 (ANALYZE 이후 변경 건수 / 행 수 이하면 vacuum 생략)
+	@Value("${vacuum-fresh-ratio:0.1}")
+	private double vacuumFreshRatio;
+
+	// 파티션 vacuum 대기 상한 (ms, 초과 시 경고 로그 후 대기 없이 진행)
+	@Value("${vacuum-wait-timeout-ms:600000}")
+	private long vacuumWaitTimeoutMs;
+
+	// 읽기/평가/쓰기 파이프라인 사용 여부
+	@Value("${cursor-tasklet-pipelined:false}")
+	private boolean pipelined;
+
+	// 파이프라인 단계 사이 큐 크기 (배치 수)
+	@Value("${cursor-tasklet-pipeline-depth:2}")
+	private int pipelineDepth;
+
 	private String cronExprs = "";
 	private Map<String, String> srchMap = null;
 
 	private String execRst = "";
 
 	private int tableNumber = 0;
-	private int tableCount = 20;
+	private int tableCount = 0;
 	private int skipCount = 200000;
 
-	private Map<String, Object> params = new HashMap<>();
-
 	@Autowired
 	WlessMabcQatCplyPerpItemManager itemManager;
 
@@ -125,16 +298,24 @@ public class WlessMabcCursorTaskletJobConfiguration {
 	 * Job
 	 *
 	 * 플로우:
-	 *   PreStep → vacuumStep → StepManager → BrmsInsertStep → AfterStep
-	 *   PreStep 실패 → NotCompletedStep → AfterStep
+	 *   PreStep → PartitionTableStep → vacuumStep → StepManager → BrmsInsertStep → AfterStep
+	 *   PreStep / PartitionTableStep 실패 → NotCompletedStep → AfterStep
 	 */
 	@Bean(name = job_name)
 	public Job Job() throws Exception {
 
 		return jobs.get(job_name)
 				.preventRestart()
-				.start(PreStep()).on("COMPLETED").to(vacuumStep()).on("*").to(StepManager())
+				.listener(RuleCallScheduler())
+				.listener(RuleEngineInvoker())
+				.listener(RuleResultCache())
+				.listener(IncrementalRuleEvaluator())
+				.listener(RuleResultWriteBehind())
+				.listener(SplitTablePlanner())
+				.listener(SplitTableVacuum())
+				.start(PreStep()).on("COMPLETED").to(PartitionTableStep()).on("COMPLETED").to(vacuumStep()).on("*").to(StepManager())
 				.from(PreStep()).on("*").to(NotCompletedStep()).on("*").to(AfterStep()).on("*").end()
+				.from(PartitionTableStep()).on("*").to(NotCompletedStep()).on("*").to(AfterStep())
 					.from(StepManager()).on("COMPLETED").to(BrmsInsertStep()).on("*").to(AfterStep())
 					.from(StepManager()).on("*").to(NotCompletedStep()).on("*").to(AfterStep())
 				.end()
@@ -148,7 +329,7 @@ public class WlessMabcCursorTaskletJobConfiguration {
 	 * 1. 임시테이블 DROP
 	 * 2. 기존 데이터 삭제
 	 * 3. 전처리 타겟 임시테이블 생성
-	 * 4. 20만건씩 분할 테이블 생성
+	 * 4. 분할 테이블 수 계산 (생성은 PartitionTableStep)
 	 */
 	@Bean(name = job_name+"PreStep")
 	public Step PreStep() throws Exception {
@@ -164,13 +345,8 @@ public class WlessMabcCursorTaskletJobConfiguration {
 					log.info("PreStep ::: 접점합산 추가 집계 임시테이블 DROP");
 					wlessMapper.dropTmpPpabcCpntSumTxnGroup();
 
-					log.info("PreStep ::: 분할 임시테이블 DROP");
-					for (int i = 0; i < tableCount; i++) {
-						tableNumber = i;
-						params.put("tableNumber", tableNumber);
-						wlessMapper.dropTmpPpabcPartition(params);
-						wlessMapper.dropTmpPpabcJoinCalsumPartition(params);
-					}
+					log.info("PreStep ::: 분할 임시테이블 DROP (카탈로그 조회)");
+					SplitTablePreparer().dropAll();
 
 					tableNumber = 0;
 					tableCount = 0;
@@ -198,6 +374,7 @@ public class WlessMabcCursorTaskletJobConfiguration {
 
 						wlessMapper.deleteWlessMabcQatCplyPerp(jobMap);
 
+						ResultStagingTables().reset();
 						wlessMapper.dropTmpRuleWlessChkReslt();
 						wlessMapper.createTmpRuleWlessChkReslt();
 
@@ -209,6 +386,12 @@ public class WlessMabcCursorTaskletJobConfiguration {
 						int fullCount = wlessMapper.createTmpWlessMabcQatCplyPerpTgtList(jobMap);
 						log.info("PreStep ::: fullCount={}", fullCount);
 
+						// 중복 svcContId 조회가 타겟 임시테이블을 읽으므로 생성 이후
+						if (ruleCallIncremental) {
+							log.info("PreStep ::: 증분 평가 해시 임시테이블 생성");
+							IncrementalRuleEvaluator().prepare(jobMap);
+						}
+
 						vacuumTableList.add("abcBAT.TMP_PP_WLESS_abc_TXN_RULE_TGT");
 
 						if(fullCount == 0) {
@@ -217,29 +400,38 @@ public class WlessMabcCursorTaskletJobConfiguration {
 							contribution.setExitStatus(ExitStatus.FAILED);
 						}
 
-						tableCount = fullCount / skipCount;
-
-						if(fullCount > tableCount * skipCount) {
-							tableCount += 1;
-						}
+						SplitTablePlanner.Plan plan = SplitTablePlanner().plan(fullCount, "abcBAT.TMP_PP_WLESS_abc_TXN_RULE_TGT");
+						tableCount = plan.getTableCount();
+						skipCount = plan.getSkipCount();
 
 						log.info("PreStep ::: tableCount={}", tableCount);
 						log.info("PreStep ::: skipCount={}", skipCount);
 
 						jobMap.put("skipCount", String.valueOf(skipCount));
+					}
+
+					return RepeatStatus.FINISHED;
+				})
+				.build();
+	}
 
-						for (int i = 0; i < tableCount; i++) {
-							tableNumber = i;
-							jobMap.put("tableNumber", String.valueOf(tableNumber));
+	/**
+	 * PartitionTableStep - 분할 임시테이블 생성
+	 *
+	 * - PreStep 커밋 후 수행 (병렬 작업 커넥션에서 전처리 타겟 임시테이블이 보여야 함)
+	 * - split-table-parallelism개 테이블 동시 생성, 실패 시 생성분 DROP 후 Step 실패
+	 */
+	@Bean(name = job_name+"PartitionTableStep")
+	public Step PartitionTableStep() {
+		return steps.get(job_name+"PartitionTableStep")
+				.tasklet((contribution, chunkContext) -> {
 
-							log.info("PreStep ::: create partition tableNumber={}", jobMap.get("tableNumber"));
+					log.info("PartitionTableStep ::: tableCount={}, parallelism={}", tableCount, splitTableParallelism);
 
-							wlessMapper.createTmpPpabcPartition(jobMap);
-							wlessMapper.createTmpPpabcJoinCalsum(jobMap);
+					SplitTablePreparer().createAll(srchMap, tableCount);
 
-							vacuumTableList.add("abcBAT.TMP_PP_WLESS_abc_TXN_JOIN_CALSUM_"+i);
-						}
-						tableNumber = 0;
+					for (int i = 0; i < tableCount; i++) {
+						vacuumTableList.add("abcBAT.TMP_PP_WLESS_abc_TXN_JOIN_CALSUM_"+i);
 					}
 
 					return RepeatStatus.FINISHED;
@@ -257,7 +449,11 @@ public class WlessMabcCursorTaskletJobConfiguration {
 
 					log.info("VacuumStep ::: vacuumTableList={}", vacuumTableList);
 
-					BatchUtil.vacuumTable(url, usr, pw, vacuumTableList);
+					if (vacuumConcurrent) {
+						SplitTableVacuum().start(vacuumTableList);
+					} else {
+						BatchUtil.vacuumTable(url, usr, pw, vacuumTableList);
+					}
 
 					vacuumTableList.clear();
 					log.info("VacuumStep ::: vacuumTableList 클리어={}", vacuumTableList);
@@ -309,6 +505,219 @@ public class WlessMabcCursorTaskletJobConfiguration {
 		return partitionHandler;
 	}
 
+	/**
+	 * RuleCallScheduler - 룰엔진 API 호출 공유 쓰레드 풀
+	 *
+	 * - Job 시작 시 생성, Job 종료 시 정리 (JobExecutionListener)
+	 * - PLATFORM: pool_size × parallel_count 쓰레드를 파티션별로 균등 배분
+	 * - VIRTUAL : 가상 쓰레드 사용, 동시 호출 수는 rule-call-max-in-flight로 제한
+	 * - 배치 분배: rule-call-dispatch-mode (STATIC / DYNAMIC)
+	 * - 실패 건 재시도: 지연 큐 + jitter 지수 backoff, 파티션별 재시도 예산
+	 */
+	@Bean(name = job_name+"RuleCallScheduler")
+	public RuleCallScheduler RuleCallScheduler() {
+		RuleCallScheduler scheduler = new RuleCallScheduler(job_name, pool_size, parallel_count, pool_size * parallel_count);
+		scheduler.setMode(RuleCallScheduler.Mode.valueOf(ruleCallMode));
+		scheduler.setMaxInFlight(ruleCallMaxInFlight);
+		scheduler.setDispatchMode(RuleCallScheduler.DispatchMode.valueOf(ruleCallDispatchMode));
+		scheduler.setMicroBatchSize(ruleCallMicroBatchSize);
+		scheduler.setMaxAttempts(ruleCallMaxAttempts);
+		scheduler.setRetryBaseDelayMillis(ruleCallRetryBaseDelayMs);
+		scheduler.setRetryBudgetRatio(ruleCallRetryBudgetRatio);
+		return scheduler;
+	}
+
+	/**
+	 * RuleEngineInvoker - InnoRules execute() 공통 진입점
+	 *
+	 * - rule-call-adaptive-limit=true 시 전체 파티션이 하나의 적응형 동시성 제한기 공유
+	 * - 상한: rule-call-adaptive-max-limit (0이면 스케줄러 최대 동시 호출 수 - PLATFORM: pool_size × parallel_count, VIRTUAL: rule-call-max-in-flight)
+	 * - 초기값: min(pool_size × parallel_count, 상한 / 2) → 상한까지 늘어날 여지를 두고 시작
+	 * - rule-call-circuit-breaker=true 시 전체 파티션이 하나의 서킷 브레이커 공유
+	 *   (2s → 4s OPEN 후에도 시험 호출 실패 시 1분 이상 호출 중단 → 장애 클러스터는 수 초 내 StepManager 실패,
+	 *    이후 시험 호출로 복구 확인 / Job 시작 시 초기화)
+	 * - rule-call-stub 설정 시 룰 클러스터 대신 로컬 StubRuleEngine 호출 (지연 / 오류 / 처리율 제한 재현)
+	 */
+	@Bean(name = job_name+"RuleEngineInvoker")
+	public RuleEngineInvoker RuleEngineInvoker() {
+		AdaptiveConcurrencyLimiter limiter = null;
+
+		if (ruleCallAdaptiveLimit) {
+			int schedulerCapacity = "VIRTUAL".equals(ruleCallMode) && ruleCallMaxInFlight > 0 ? ruleCallMaxInFlight : pool_size * parallel_count;
+			int maxLimit = Math.max(ruleCallAdaptiveMinLimit, ruleCallAdaptiveMaxLimit > 0 ? ruleCallAdaptiveMaxLimit : schedulerCapacity);
+			int initialLimit = Math.max(ruleCallAdaptiveMinLimit, Math.min(pool_size * parallel_count, maxLimit / 2));
+			limiter = new AdaptiveConcurrencyLimiter(job_name, initialLimit, ruleCallAdaptiveMinLimit, maxLimit, 0.9d, 2.0d);
+		}
+
+		RuleCircuitBreaker circuitBreaker = null;
+
+		if (ruleCallCircuitBreaker) {
+			circuitBreaker = new RuleCircuitBreaker(job_name, ruleCallCircuitFailureRate,
+				ruleCallCircuitWindow, ruleCallCircuitWindow / 2, ruleCallCircuitOpenMs, 3, ruleCallCircuitMaxOpens);
+		}
+
+		StubRuleEngine stubRuleEngine = ruleCallStub.isEmpty() ? null : StubRuleEngine.parse(ruleCallStub);
+
+		return new RuleEngineInvoker(limiter, circuitBreaker, stubRuleEngine);
+	}
+
+	/**
+	 * WlessRuleEvaluator - 1건 룰 평가 (RuleReq 구성 / 호출 / 결과 매핑)
+	 *
+	 * - rule-call-concurrent-rule-codes=true 시 apiId의 룰 코드들을 동시에 호출 후 병합
+	 * - rule-call-bulk-size > 1 시 rule-call-bulk-rule-codes 룰은 N건씩 묶어서 1회 호출
+	 * - rule-call-memo=true 시 같은 룰 입력의 결과를 재사용 (RuleResultCache)
+	 */
+	@Bean(name = job_name+"WlessRuleEvaluator")
+	public WlessRuleEvaluator WlessRuleEvaluator() {
+		WlessRuleEvaluator evaluator = new WlessRuleEvaluator(RuleEngineInvoker(), RuleCallScheduler());
+		evaluator.setConcurrentRuleCodes(ruleCallConcurrentRuleCodes);
+		evaluator.setBulkSize(ruleCallBulkSize);
+		evaluator.setBulkRuleCodes(new HashSet<>(RuleCallContext.parseRuleCodes(ruleCallBulkRuleCodes)));
+		evaluator.setResultCache(ruleCallMemo ? RuleResultCache() : null);
+		if (!ruleCallStub.isEmpty()) {
+			evaluator.setRequestFactory(StubRuleEngine.StubRuleReq::new);
+		}
+		return evaluator;
+	}
+
+	/**
+	 * RuleResultCache - Job 실행 중 룰 결과 메모이제이션 캐시
+	 *
+	 * - 결과 행 수 기준 상한 (rule-call-memo-max-rows), Job 종료 시 비움
+	 */
+	@Bean(name = job_name+"RuleResultCache")
+	public RuleResultCache RuleResultCache() {
+		return new RuleResultCache(job_name, ruleCallMemoMaxRows);
+	}
+
+	/**
+	 * 결과 임시테이블 적재 방식 (result-load-mode)
+	 *
+	 * - INSERT: BatchInsertDao.batchInsert (기존)
+	 * - JDBC_BATCH: JdbcBatchInsertStrategy (MyBatis와 같은 DataSource)
+	 * - COPY / COPY_BINARY: PgCopyLoadStrategy (MyBatis와 같은 DataSource)
+	 */
+	@Bean(name = job_name+"BulkLoadStrategy")
+	public BulkLoadStrategy BulkLoadStrategy() {
+
+		BulkLoadStrategy.Mode mode = BulkLoadStrategy.Mode.valueOf(resultLoadMode);
+		log.info("BulkLoadStrategy ::: result-load-mode={}", mode);
+
+		if (mode == BulkLoadStrategy.Mode.INSERT) {
+			return batchInsertDao::batchInsert;
+		}
+
+		DataSource dataSource = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
+		if (mode == BulkLoadStrategy.Mode.JDBC_BATCH) {
+			return new JdbcBatchInsertStrategy(dataSource);
+		}
+		return new PgCopyLoadStrategy(dataSource, mode == BulkLoadStrategy.Mode.COPY_BINARY);
+	}
+
+	/**
+	 * 결과 write-behind (Job 공유, result-write-behind=true일 때 사용)
+	 *
+	 * - 결과 저장을 전용 쓰레드에서 BulkLoadStrategy로 수행 (size / 시간 기준 flush)
+	 * - Slave 파티션 종료 / BrmsInsertStep 시작 시 적재 완료 대기, 적재 실패 시 해당 Step 실패
+	 */
+	@Bean(name = job_name+"RuleResultWriteBehind")
+	public RuleResultWriteBehind RuleResultWriteBehind() {
+
+		Map<String, Object> fixedValues = new HashMap<>();
+		fixedValues.put("regUser", "batch");
+		fixedValues.put("regDate", "SQL::now()");
+		fixedValues.put("updUser", "batch");
+		fixedValues.put("updDate", "SQL::now()");
+
+		return new RuleResultWriteBehind(job_name, BulkLoadStrategy(), Set.of("serialVersionUID"), fixedValues,
+				resultWriteBehindThreads, resultWriteBehindCapacity, resultWriteBehindFlushRows, resultWriteBehindFlushMs);
+	}
+
+	/**
+	 * 파티션별 결과 staging 테이블 (Job 공유, result-staging=NONE이면 결과 임시테이블 그대로 사용)
+	 *
+	 * - PreStep에서 이전 실행 staging 테이블 정리, BrmsInsertStep에서 결과 임시테이블로 합친 뒤 드랍
+	 */
+	@Bean(name = job_name+"ResultStagingTables")
+	public ResultStagingTables ResultStagingTables() {
+
+		DataSource dataSource = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
+		return new ResultStagingTables(job_name, dataSource,
+				ResultStagingTables.Mode.valueOf(resultStaging.trim().toUpperCase()), resultStagingMergeParallelism);
+	}
+
+	/**
+	 * 결과 본테이블 범위 병렬 인서트 (brms-insert-parallelism > 1일 때 사용)
+	 *
+	 * - 결과 임시테이블을 svcContId 범위로 나눠 staging(abcBAT.TMP_RULE_WLESS_CHK_RESLT_PUB)에 동시 인서트
+	 * - staging → 본테이블 INSERT ... SELECT + staging 드랍을 한 트랜잭션으로 커밋 (전부 반영 또는 미반영)
+	 * - 범위 / 반영 단계 실패 시 본테이블 변경 없이 Step 실패
+	 */
+	@Bean(name = job_name+"RuleResultRangeInserter")
+	public RuleResultRangeInserter RuleResultRangeInserter() {
+		return new RuleResultRangeInserter(job_name, sqlSessionFactory,
+				"com.abc.batch.mapper.WlessPartiMapper.selectRuleWlessChkResltKeyBounds",
+				"com.abc.batch.mapper.WlessPartiMapper.createTmpRuleWlessChkResltPub",
+				"com.abc.batch.mapper.WlessPartiMapper.insertTmpRuleWlessChkResltPubRange",
+				"com.abc.batch.mapper.WlessPartiMapper.insertRuleWlessChkResltFromPub",
+				"com.abc.batch.mapper.WlessPartiMapper.dropTmpRuleWlessChkResltPub",
+				brmsInsertParallelism);
+	}
+
+	/**
+	 * 분할 임시테이블 DROP / 생성 (split-table-parallelism개 병렬)
+	 *
+	 * - PreStep DROP은 카탈로그에서 TMP_PP_WLESS_abc_TXN_{n} / JOIN_CALSUM_{n}을 조회 (SplitTablePlanner 테이블 수는 20개 이상 가능)
+	 */
+	@Bean(name = job_name+"SplitTablePreparer")
+	public SplitTablePreparer SplitTablePreparer() {
+		DataSource dataSource = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
+		return new SplitTablePreparer(job_name, dataSource, wlessMapper, splitTableParallelism);
+	}
+
+	/**
+	 * 분할 임시테이블 수 / skipCount 산정 (fullCount, pool_size, 행 크기, 이전 실행 건당 처리시간)
+	 *
+	 * - 테이블 수는 pool_size 배수, 테이블 크기 균등
+	 * - 건당 처리시간 이력은 JobExecutionContext에 저장, beforeJob에서 JobExplorer로 직전 실행 조회
+	 */
+	@Bean(name = job_name+"SplitTablePlanner")
+	public SplitTablePlanner SplitTablePlanner() {
+
+		DataSource dataSource = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
+		return new SplitTablePlanner(job_name, dataSource, jobExplorer, pool_size,
+				splitTableMaxRows, splitTableMaxMb * 1024 * 1024, splitTableTargetSeconds * 1000);
+	}
+
+	/**
+	 * 임시테이블 테이블별 병렬 vacuum (vacuum-concurrent=true일 때 VacuumStep에서 사용)
+	 *
+	 * - Slave 파티션 시작 시 읽는 분할 테이블(StepExecutionContext tableNumber) vacuum 완료까지 대기
+	 * - 파티셔너가 tableNumber를 넣지 않으면 현재 tableNumber를 StepExecutionContext에 넣음 (Slave Reader / Tasklet과 같은 값)
+	 * - 대기 상한 vacuum-wait-timeout-ms, 통계가 최신인 테이블은 생략
+	 */
+	@Bean(name = job_name+"SplitTableVacuum")
+	public SplitTableVacuum SplitTableVacuum() {
+
+		DataSource dataSource = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
+		return new SplitTableVacuum(job_name, dataSource, tables -> BatchUtil.vacuumTable(url, usr, pw, tables),
+				vacuumParallelism, vacuumFreshRatio, vacuumWaitTimeoutMs, () -> tableNumber);
+	}
+
+	/**
+	 * IncrementalRuleEvaluator - 증분 룰 평가
+	 *
+	 * - rule-call-incremental=true 시 건 + 룰 코드별 입력 해시가 전일과 같으면 룰 호출 생략
+	 * - PreStep에서 해시 임시테이블 생성, BrmsInsertStep에서 이월 결과 인서트 + 해시 반영
+	 * - Job 종료 시 생략 비율 로그
+	 */
+	@Bean(name = job_name+"IncrementalRuleEvaluator")
+	public IncrementalRuleEvaluator IncrementalRuleEvaluator() {
+		return new IncrementalRuleEvaluator(job_name, wlessMapper, batchInsertDao, RuleCallScheduler(), WlessRuleEvaluator(),
+			IncrementalRuleEvaluator.parseRuleVersions(ruleCallIncrementalRuleVersions));
+	}
+
 	/**
 	 * TaskExecutor
 	 */
@@ -330,19 +739,30 @@ public class WlessMabcCursorTaskletJobConfiguration {
 	 * - MyBatis Cursor로 스트리밍
 	 * - 1000건씩 배치 처리
 	 * - 병렬 5개로 API 호출
+	 * - cursor-tasklet-pipelined=true 시 읽기/평가/쓰기 파이프라인 처리
 	 */
 	@Bean(name = job_name+"Slave")
 	public Step Slave() throws Exception {
 
 		log.info(" =============== called Slave (Cursor Tasklet) ================ ");
 
+		WlessMabcCursorTasklet tasklet = new WlessMabcCursorTasklet(
+				sqlSessionFactory,
+				batchInsertDao,
+				wlessMapper,
+				RuleCallScheduler(),
+				WlessRuleEvaluator()
+		);
+		tasklet.setPipelined(pipelined);
+		tasklet.setPipelineDepth(pipelineDepth);
+		tasklet.setIncrementalEvaluator(ruleCallIncremental ? IncrementalRuleEvaluator() : null);
+		tasklet.setBulkLoadStrategy(BulkLoadStrategy());
+		tasklet.setWriteBehind(resultWriteBehind ? RuleResultWriteBehind() : null);
+		tasklet.setResultStaging(ResultStagingTables());
+
 		return steps.get(job_name+"Slave")
-				.tasklet(new WlessMabcCursorTasklet(
-						sqlSessionFactory,
-						batchInsertDao,
-						wlessMapper,
-						tableNumber
-				))
+				.tasklet(tasklet)
+				.listener(SplitTableVacuum())
 				.build();
 	}
 
@@ -356,10 +776,34 @@ public class WlessMabcCursorTaskletJobConfiguration {
 
 					log.info("BrmsInsertStep ::: srchMap={}", srchMap);
 
+					if (resultWriteBehind) {
+						log.info("BrmsInsertStep ::: {}", "write-behind 결과 전체 적재 대기");
+						RuleResultWriteBehind().flush();
+					}
+
+					if (ResultStagingTables().isEnabled()) {
+						log.info("BrmsInsertStep ::: {}", "파티션 staging 테이블 결과 임시테이블로 합침");
+					}
+					long mergeMillis = ResultStagingTables().merge();
+
 					log.info("BrmsInsertStep ::: {}", "Brms 무선 룰 결과 임시테이블에서 본테이블로 인서트");
-					wlessMapper.insertRuleWlessChkReslt(srchMap);
+					long insertStart = System.currentTimeMillis();
+					if (brmsInsertParallelism > 1) {
+						RuleResultRangeInserter().insert(srchMap);
+					} else {
+						wlessMapper.insertRuleWlessChkReslt(srchMap);
+					}
+					long insertMillis = System.currentTimeMillis() - insertStart;
+
+					log.info("BrmsInsertStep ::: staging 합침={}ms, 본테이블 인서트={}ms", mergeMillis, insertMillis);
+
+					if (ruleCallIncremental) {
+						log.info("BrmsInsertStep ::: {}", "증분 평가 이월 결과 인서트 / 입력 해시 반영");
+						IncrementalRuleEvaluator().merge(srchMap);
+					}
 
 					log.info("BrmsInsertStep ::: {}", "Brms 무선 룰 결과 임시테이블 드랍");
+					ResultStagingTables().dropAll();
 					wlessMapper.dropTmpRuleWlessChkReslt();
 
 					return RepeatStatus.FINISHED;
@@ -0,0 +1,453 @@
+package com.abc.batch.job.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import com.abc.batch.domain.PpWlessabcTxnItem;
+import com.abc.batch.domain.RuleWlessChkResltItem;
+import com.innoexpert.rulesclient.ResultSet;
+import com.innoexpert.rulesclient.RuleReq;
+import com.innoexpert.rulesclient.RulesException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 1건 룰 평가 (Tasklet / Writer 공통)
+ *
+ * 기존 WlessMabcQatCplyPerpProcessor.ruleCall() 로직 이관
+ * - 룰 코드 목록은 RuleCallContext에서 파싱된 것을 그대로 사용
+ * - 순차 모드: RuleReq 1개를 재사용하여 룰 코드 순서대로 호출 (건당 지연 = 룰 지연 합)
+ * - 동시 모드(concurrentRuleCodes=true): 룰 코드별로 동시 호출 후 룰 코드 순서대로 병합 (건당 지연 ≈ 가장 느린 룰)
+ * - RuleReq는 쓰레드마다 1개를 재사용, 항목 설정은 RuleRequestBinder 선언형 매핑으로 수행
+ * - 결과 파싱은 룰 코드별로 캐시된 RuleResultMappingPlan 사용
+ * - resultCache 설정 시 같은 룰 입력(fingerprint)의 결과를 재사용 (룰 호출 생략)
+ *
+ * 벌크 모드 (bulkSize > 1, bulkRuleCodes에 등록된 벡터 입력 룰만):
+ * - RuleReq 항목은 리스트 값이므로 N건의 값을 한 요청에 담아 1회 호출 (왕복 횟수 1/N)
+ * - 결과 행은 svc_cont_id 컬럼으로 원본 건에 다시 배정
+ * - 벌크 호출 실패 시 묶음의 모든 건을 실패 처리 → 재시도는 건 단위
+ * - 한 건이라도 어느 룰에서 실패하면 그 건의 다른 룰 결과도 버림 (건 단위 모드와 동일)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class WlessRuleEvaluator {
+
+    private final RuleEngineInvoker ruleEngineInvoker;
+    private final RuleCallScheduler ruleCallScheduler;
+
+    // RuleReq 생성 (로컬 stub 룰엔진 사용 시 StubRuleEngine.StubRuleReq)
+    @Setter
+    private Supplier<RuleReq> requestFactory = RuleReq::new;
+
+    // 쓰레드(워커)마다 RuleReq 1개 재사용 (호출 전 resetItems)
+    private final ThreadLocal<RuleReq> requests = ThreadLocal.withInitial(() -> requestFactory.get());
+
+    private final RuleRequestBinder<PpWlessabcTxnItem> requestBinder = RuleRequestBinder.PP_WLESSABC_TXN;
+
+    // 룰 코드 → 결과 컬럼 매핑 계획
+    private final Map<String, RuleResultMappingPlan> mappingPlans = new ConcurrentHashMap<>();
+
+    // 결과 컬럼명(소문자) → setter (없는 컬럼은 건너뜀)
+    @Setter
+    private Map<String, RuleResultMappingPlan.ColumnSetter> columnSetters = RuleResultMappingPlan.defaultSetters();
+
+    // 1건의 룰 코드들을 동시에 호출할지 여부
+    @Setter
+    private boolean concurrentRuleCodes;
+
+    // 벌크 요청 1회에 담는 건수 (1 이하면 건 단위 호출)
+    @Setter
+    private int bulkSize = 1;
+
+    // 벡터 입력을 받는 룰 코드 (벌크 모드 대상)
+    @Setter
+    private Set<String> bulkRuleCodes = Collections.emptySet();
+
+    // 룰 결과 메모이제이션 (null이면 사용 안 함)
+    @Setter
+    private RuleResultCache resultCache;
+
+    /**
+     * 서브 배치 / micro-batch 평가
+     *
+     * - 성공 건 결과 반환, 실패 건은 failures로 알림 (스케줄러 재시도 큐)
+     * - 인터럽트 / 서킷 OPEN(클러스터 장애 판정)은 재시도 없이 배치 중단 → Step 빠른 실패
+     */
+    public List<RuleWlessChkResltItem> evaluateBatch(List<PpWlessabcTxnItem> items,
+                                                     RuleCallContext context,
+                                                     RuleCallScheduler.ItemFailureHandler<PpWlessabcTxnItem> failures)
+            throws InterruptedException {
+
+        if (bulkSize > 1 && items.size() > 1 && !bulkRuleCodes.isEmpty()) {
+            return evaluateBulk(items, context, failures);
+        }
+
+        List<RuleWlessChkResltItem> batchResults = new ArrayList<>();
+
+        for (PpWlessabcTxnItem item : items) {
+            try {
+                batchResults.addAll(evaluate(item, context));
+
+            } catch (InterruptedException | RuleCircuitBreaker.CircuitBreakerOpenException e) {
+                throw e;
+
+            } catch (Exception e) {
+                // 계속 진행 (다음 아이템 처리), 실패 건은 재시도 큐로
+                failures.failed(item, e);
+            }
+        }
+
+        return batchResults;
+    }
+
+    /**
+     * 룰엔진 API 호출 (실제 InnoRules 호출)
+     */
+    public List<RuleWlessChkResltItem> evaluate(PpWlessabcTxnItem paramItem,
+                                                RuleCallContext context) throws Exception {
+
+        List<String> ruleCodes = context.getRuleCodes();
+
+        try {
+            String fingerprint = resultCache != null ? requestBinder.fingerprint(paramItem) : null;
+
+            if (concurrentRuleCodes && ruleCodes.size() > 1) {
+                return evaluateConcurrently(paramItem, fingerprint, context);
+            }
+
+            List<RuleWlessChkResltItem> rstList = new ArrayList<>();
+            RuleReq req = requests.get();
+
+            for (String ruleCode : ruleCodes) {
+                evaluateRule(req, ruleCode, paramItem, fingerprint, context, rstList);
+            }
+
+            return rstList;
+
+        } catch (RulesException e) {
+            log.error("[Partition {}] InnoRules API 오류: svcContId={}",
+                context.getPartitionKey(), paramItem.getSvcContId(), e);
+            throw e;
+        } catch (Exception e) {
+            log.error("[Partition {}] 룰엔진 호출 오류: svcContId={}",
+                context.getPartitionKey(), paramItem.getSvcContId(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 룰 코드별 동시 호출
+     *
+     * - 첫 번째 룰 코드는 현재 쓰레드, 나머지는 스케줄러 fork 실행기에서 호출
+     * - 결과는 룰 코드 순서대로 병합 (순차 모드와 동일한 순서)
+     * - 하나라도 실패하면 나머지 취소 후 원래 예외 전파
+     */
+    private List<RuleWlessChkResltItem> evaluateConcurrently(PpWlessabcTxnItem paramItem,
+                                                             String fingerprint,
+                                                             RuleCallContext context) throws Exception {
+
+        List<String> ruleCodes = context.getRuleCodes();
+        List<Future<List<RuleWlessChkResltItem>>> forks = new ArrayList<>(ruleCodes.size() - 1);
+
+        try {
+            for (int i = 1; i < ruleCodes.size(); i++) {
+                String ruleCode = ruleCodes.get(i);
+                forks.add(ruleCallScheduler.fork(() -> {
+                    List<RuleWlessChkResltItem> results = new ArrayList<>();
+                    evaluateRule(requests.get(), ruleCode, paramItem, fingerprint, context, results);
+                    return results;
+                }));
+            }
+
+            List<RuleWlessChkResltItem> rstList = new ArrayList<>();
+            evaluateRule(requests.get(), ruleCodes.get(0), paramItem, fingerprint, context, rstList);
+
+            for (Future<List<RuleWlessChkResltItem>> fork : forks) {
+                rstList.addAll(fork.get());
+            }
+
+            return rstList;
+
+        } catch (ExecutionException e) {
+            forks.forEach(f -> f.cancel(true));
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        } catch (Exception e) {
+            forks.forEach(f -> f.cancel(true));
+            throw e;
+        }
+    }
+
+    /**
+     * 벌크 모드 평가
+     *
+     * - 룰 코드 순서대로: 벌크 대상 룰은 bulkSize건씩 묶어서, 나머지 룰은 건 단위로 호출
+     * - 실패한 건은 이후 룰 호출에서 제외
+     */
+    private List<RuleWlessChkResltItem> evaluateBulk(List<PpWlessabcTxnItem> items,
+                                                     RuleCallContext context,
+                                                     RuleCallScheduler.ItemFailureHandler<PpWlessabcTxnItem> failures)
+            throws InterruptedException {
+
+        Map<PpWlessabcTxnItem, List<RuleWlessChkResltItem>> resultsByItem = new IdentityHashMap<>();
+        Map<PpWlessabcTxnItem, String> fingerprints = new IdentityHashMap<>();
+        List<PpWlessabcTxnItem> alive = new ArrayList<>(items);
+        for (PpWlessabcTxnItem item : items) {
+            resultsByItem.put(item, new ArrayList<>());
+            if (resultCache != null) {
+                fingerprints.put(item, requestBinder.fingerprint(item));
+            }
+        }
+
+        RuleReq req = requests.get();
+
+        for (String ruleCode : context.getRuleCodes()) {
+
+            Map<PpWlessabcTxnItem, Exception> failed = new IdentityHashMap<>();
+
+            if (bulkRuleCodes.contains(ruleCode)) {
+                // 캐시 적중 건은 묶음에서 제외
+                List<PpWlessabcTxnItem> misses = new ArrayList<>(alive.size());
+                for (PpWlessabcTxnItem item : alive) {
+                    List<RuleWlessChkResltItem> cached = cachedResults(ruleCode, item, fingerprints.get(item), context);
+                    if (cached != null) {
+                        resultsByItem.get(item).addAll(cached);
+                    } else {
+                        misses.add(item);
+                    }
+                }
+
+                for (Map<String, PpWlessabcTxnItem> pack : pack(misses)) {
+                    try {
+                        Map<PpWlessabcTxnItem, List<RuleWlessChkResltItem>> rows = executeBulkRule(req, ruleCode, pack, context);
+                        rows.forEach((item, results) -> {
+                            cacheResults(ruleCode, fingerprints.get(item), context, results);
+                            resultsByItem.get(item).addAll(results);
+                        });
+
+                    } catch (InterruptedException | RuleCircuitBreaker.CircuitBreakerOpenException e) {
+                        throw e;
+
+                    } catch (Exception e) {
+                        log.error("[Partition {}] InnoRules 벌크 호출 오류: ruleCode={}, {}건",
+                            context.getPartitionKey(), ruleCode, pack.size(), e);
+                        pack.values().forEach(item -> failed.put(item, e));
+                    }
+                }
+            } else {
+                for (PpWlessabcTxnItem item : alive) {
+                    try {
+                        evaluateRule(req, ruleCode, item, fingerprints.get(item), context, resultsByItem.get(item));
+
+                    } catch (InterruptedException | RuleCircuitBreaker.CircuitBreakerOpenException e) {
+                        throw e;
+
+                    } catch (Exception e) {
+                        log.error("[Partition {}] 룰엔진 호출 오류: svcContId={}",
+                            context.getPartitionKey(), item.getSvcContId(), e);
+                        failed.put(item, e);
+                    }
+                }
+            }
+
+            if (!failed.isEmpty()) {
+                alive.removeIf(failed::containsKey);
+                failed.forEach(failures::failed);
+            }
+        }
+
+        List<RuleWlessChkResltItem> batchResults = new ArrayList<>();
+        for (PpWlessabcTxnItem item : alive) {
+            batchResults.addAll(resultsByItem.get(item));
+        }
+
+        return batchResults;
+    }
+
+    /**
+     * bulkSize건씩 묶음 (같은 svc_cont_id는 한 묶음에 넣지 않음 → 결과 배정이 모호해지지 않도록)
+     */
+    private List<Map<String, PpWlessabcTxnItem>> pack(List<PpWlessabcTxnItem> items) {
+
+        List<Map<String, PpWlessabcTxnItem>> packs = new ArrayList<>();
+        Map<String, PpWlessabcTxnItem> current = new LinkedHashMap<>();
+
+        for (PpWlessabcTxnItem item : items) {
+            if (current.size() == bulkSize || current.containsKey(item.getSvcContId())) {
+                packs.add(current);
+                current = new LinkedHashMap<>();
+            }
+            current.put(item.getSvcContId(), item);
+        }
+
+        if (!current.isEmpty()) {
+            packs.add(current);
+        }
+
+        return packs;
+    }
+
+    /**
+     * 벌크 룰 1개 실행
+     *
+     * - 결과 행은 키 컬럼으로 원본 건을 찾아 매핑
+     * - 묶음 전체가 성공한 경우에만 반환 (결과 행이 없는 건은 빈 목록)
+     */
+    private Map<PpWlessabcTxnItem, List<RuleWlessChkResltItem>> executeBulkRule(RuleReq req,
+                                                                               String ruleCode,
+                                                                               Map<String, PpWlessabcTxnItem> pack,
+                                                                               RuleCallContext context) throws Exception {
+
+        req.setRuleCode(ruleCode);
+        req.setDate(context.getBatchExecDt());
+        req.resetItems();
+
+        // ⚡ N건을 한 요청에 (항목별 값 리스트)
+        requestBinder.bind(req, pack.values());
+
+        ResultSet rs = ruleEngineInvoker.execute(req);
+
+        Map<PpWlessabcTxnItem, List<RuleWlessChkResltItem>> rowsByItem = new IdentityHashMap<>();
+        for (PpWlessabcTxnItem source : pack.values()) {
+            rowsByItem.put(source, new ArrayList<>());
+        }
+
+        RuleResultMappingPlan plan = null;
+
+        while (rs.next()) {
+            if (plan == null) {
+                plan = mappingPlan(ruleCode, rs);
+            }
+
+            String key = plan.key(rs);
+            PpWlessabcTxnItem source = pack.get(key);
+            if (source == null) {
+                throw new IllegalStateException("벌크 결과 행의 " + RuleResultMappingPlan.KEY_COLUMN
+                    + "가 요청에 없음: ruleCode=" + ruleCode + ", key=" + key);
+            }
+
+            rowsByItem.get(source).add(plan.map(rs, source));
+        }
+
+        return rowsByItem;
+    }
+
+    /**
+     * 룰 1개 평가 (캐시 적중 시 룰 호출 생략)
+     *
+     * @param fingerprint 룰 입력 fingerprint (null이면 캐시 사용 안 함)
+     */
+    private void evaluateRule(RuleReq req,
+                              String ruleCode,
+                              PpWlessabcTxnItem paramItem,
+                              String fingerprint,
+                              RuleCallContext context,
+                              List<RuleWlessChkResltItem> rstList) throws Exception {
+
+        List<RuleWlessChkResltItem> cached = cachedResults(ruleCode, paramItem, fingerprint, context);
+        if (cached != null) {
+            rstList.addAll(cached);
+            return;
+        }
+
+        if (fingerprint == null) {
+            executeRule(req, ruleCode, paramItem, context, rstList);
+            return;
+        }
+
+        List<RuleWlessChkResltItem> results = new ArrayList<>();
+        executeRule(req, ruleCode, paramItem, context, results);
+        cacheResults(ruleCode, fingerprint, context, results);
+        rstList.addAll(results);
+    }
+
+    private List<RuleWlessChkResltItem> cachedResults(String ruleCode,
+                                                      PpWlessabcTxnItem paramItem,
+                                                      String fingerprint,
+                                                      RuleCallContext context) {
+        if (fingerprint == null) {
+            return null;
+        }
+        return resultCache.get(context.getPartitionKey(),
+            RuleResultCache.key(ruleCode, context.getBatchExecDt(), fingerprint), paramItem.getSvcContId());
+    }
+
+    private void cacheResults(String ruleCode,
+                              String fingerprint,
+                              RuleCallContext context,
+                              List<RuleWlessChkResltItem> results) {
+        if (fingerprint != null) {
+            resultCache.put(context.getPartitionKey(),
+                RuleResultCache.key(ruleCode, context.getBatchExecDt(), fingerprint), results);
+        }
+    }
+
+    /**
+     * 룰 1개 실행 후 결과 행을 rstList에 추가
+     */
+    private void executeRule(RuleReq req,
+                             String ruleCode,
+                             PpWlessabcTxnItem paramItem,
+                             RuleCallContext context,
+                             List<RuleWlessChkResltItem> rstList) throws Exception {
+
+        req.setRuleCode(ruleCode);
+        req.setDate(context.getBatchExecDt());
+        req.resetItems();
+
+        // ⚡ InnoRules API 파라미터 설정 (모든 필드)
+        requestBinder.bind(req, paramItem);
+
+        // 룰 실행 (공유 동시성 제한기 / 서킷 브레이커 경유)
+        ResultSet rs = ruleEngineInvoker.execute(req);
+
+        // 결과 파싱 (룰 코드별 매핑 계획 사용, 행마다 메타데이터 조회 없음)
+        RuleResultMappingPlan plan = null;
+
+        while (rs.next()) {
+            if (plan == null) {
+                plan = mappingPlan(ruleCode, rs);
+            }
+            rstList.add(plan.map(rs, paramItem));
+        }
+    }
+
+    /**
+     * 룰 코드별 결과 매핑 계획 (최초 결과 수신 시 1회 생성 후 Job 동안 재사용)
+     */
+    private RuleResultMappingPlan mappingPlan(String ruleCode, ResultSet rs) throws RulesException {
+
+        RuleResultMappingPlan plan = mappingPlans.get(ruleCode);
+        if (plan != null) {
+            return plan;
+        }
+
+        plan = RuleResultMappingPlan.compile(ruleCode, rs.getMetaData(), columnSetters);
+        RuleResultMappingPlan existing = mappingPlans.putIfAbsent(ruleCode, plan);
+        if (existing != null) {
+            return existing;
+        }
+
+        // 계획을 등록한 쓰레드만 로그 → 룰 코드별 1회
+        if (plan.getUnmappedColumns().isEmpty()) {
+            log.info("[ResultMapping] 매핑 계획 생성: {}", plan);
+        } else {
+            log.warn("[ResultMapping] 매핑 계획 생성 (setter 없는 컬럼은 건너뜀): {}", plan);
+        }
+        return plan;
+    }
+}
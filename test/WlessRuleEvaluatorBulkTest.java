@@ -0,0 +1,280 @@
+package com.abc.batch.job.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.abc.batch.domain.PpWlessabcTxnItem;
+import com.abc.batch.domain.RuleWlessChkResltItem;
+import com.innoexpert.rulesclient.Item;
+import com.innoexpert.rulesclient.ResultSet;
+import com.innoexpert.rulesclient.RuleInterface;
+import com.innoexpert.rulesclient.RuleReq;
+import com.innoexpert.rulesclient.RulesException;
+
+/**
+ * WlessRuleEvaluator 벌크 모드 / 건 단위 모드 결과 동일성 (로컬 StubRuleEngine, 지연 / 주입 오류 없음)
+ *
+ * - 같은 입력을 두 모드로 평가하고, 실패 건은 스케줄러와 같이 1건씩 재평가
+ * - 최종 결과 행(순서 무관)과 끝까지 실패한 건이 같아야 함
+ * - 결과 행은 RuleWlessChkResltItem.toString() + 되돌려 받은 adm_org_id로 비교
+ * - stub 룰엔진은 요청 건의 adm_org_id를 결과 컬럼으로 되돌려 줌 → 결과 행이 그 값을 보낸 건에 붙었는지 확인
+ *   (같은 svc_cont_id, 다른 adm_org_id 건이 섞여도 구분)
+ */
+public class WlessRuleEvaluatorBulkTest {
+
+    private static final String RULE_CODES = "R001,R002,R003";
+    private static final Set<String> BULK_RULE_CODES = new HashSet<>(Arrays.asList("R001", "R002"));
+    private static final String BATCH_EXEC_DT = "20261017000000";
+
+    // 요청 값을 되돌려 받는 결과 컬럼
+    private static final String ECHO_COLUMN = "adm_org_id";
+
+    // 재시도 횟수 (RuleCallScheduler 기본 최대 시도와 무관, 실패 건이 계속 실패하는지만 확인)
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Test
+    public void bulkMatchesPerItem() throws Exception {
+        assertSameResults(items(10), Collections.emptyMap(), 4);
+    }
+
+    @Test
+    public void bulkMatchesPerItemWithDuplicateSvcContId() throws Exception {
+        List<PpWlessabcTxnItem> items = items(10);
+        // 같은 svc_cont_id, 다른 입력 값 (묶음 안에서 연속 / 떨어진 위치 모두)
+        items.add(3, item(2, "D1"));
+        items.add(item(2, "D2"));
+        items.add(item(7, "D3"));
+
+        assertSameResults(items, Collections.emptyMap(), 4);
+    }
+
+    @Test
+    public void bulkMatchesPerItemWithPartialFailure() throws Exception {
+        Map<String, Set<String>> failing = new HashMap<>();
+        // 벌크 룰 실패: 묶음 전체 실패 → 나머지 건은 재시도로 성공
+        failing.put("R002", Collections.singleton(svcContId(5)));
+        // 건 단위 룰 실패: 앞 룰(R001, R002) 결과도 버려야 함
+        failing.put("R003", Collections.singleton(svcContId(8)));
+
+        List<PpWlessabcTxnItem> items = items(10);
+        items.add(item(5, "D1"));
+
+        Outcome bulk = assertSameResults(items, failing, 4);
+
+        assertEquals(new HashSet<>(Arrays.asList(svcContId(5), svcContId(8))), bulk.failedSvcContIds);
+    }
+
+    @Test
+    public void bulkSizeLargerThanBatch() throws Exception {
+        Map<String, Set<String>> failing = new HashMap<>();
+        failing.put("R001", Collections.singleton(svcContId(0)));
+
+        assertSameResults(items(3), failing, 100);
+    }
+
+    private static Outcome assertSameResults(List<PpWlessabcTxnItem> items,
+                                             Map<String, Set<String>> failing,
+                                             int bulkSize) throws Exception {
+
+        Outcome perItem = evaluate(items, failing, 1);
+        Outcome bulk = evaluate(items, failing, bulkSize);
+
+        assertEquals(Collections.emptyList(), perItem.misattributed, "다른 건에 붙은 결과 (건 단위)");
+        assertEquals(Collections.emptyList(), bulk.misattributed, "다른 건에 붙은 결과 (벌크)");
+        assertEquals(perItem.failedSvcContIds, bulk.failedSvcContIds, "끝까지 실패한 건");
+        assertEquals(perItem.rows, bulk.rows, "결과 행");
+
+        int expectedRows = 0;
+        for (PpWlessabcTxnItem item : items) {
+            if (!perItem.failedSvcContIds.contains(item.getSvcContId())) {
+                expectedRows += RuleCallContext.parseRuleCodes(RULE_CODES).size();
+            }
+        }
+        assertEquals(expectedRows, bulk.rows.size(), "결과 행 수");
+
+        // 벌크 모드가 실제로 묶음 호출을 했는지 (실패가 없으면 건 단위보다 호출 수가 적음)
+        if (failing.isEmpty() && bulkSize > 1 && items.size() > 1) {
+            assertTrue(bulk.calls < perItem.calls, "벌크 호출 수 " + bulk.calls + " < 건 단위 " + perItem.calls);
+        }
+
+        return bulk;
+    }
+
+    /**
+     * 스케줄러 없이 evaluateBatch 1회 + 실패 건 1건씩 재평가 (RuleCallScheduler 재시도와 같은 단위)
+     */
+    private static Outcome evaluate(List<PpWlessabcTxnItem> items,
+                                    Map<String, Set<String>> failing,
+                                    int bulkSize) throws Exception {
+
+        FailingRuleEngine engine = new FailingRuleEngine(failing);
+        Outcome outcome = new Outcome();
+
+        // 결과 행 → 되돌려 받은 adm_org_id, 배정된 원본 건과 다르면 misattributed
+        Map<RuleWlessChkResltItem, String> echoes = Collections.synchronizedMap(new IdentityHashMap<>());
+        Map<String, RuleResultMappingPlan.ColumnSetter> columnSetters = new HashMap<>(RuleResultMappingPlan.defaultSetters());
+        columnSetters.put(ECHO_COLUMN, (target, value, source) -> {
+            String echoed = value.getString(0);
+            echoes.put(target, echoed);
+            if (!echoed.equals(source.getAdmOrgId())) {
+                outcome.misattributed.add(source.getSvcContId() + "/" + source.getAdmOrgId() + " ← " + echoed);
+            }
+        });
+
+        WlessRuleEvaluator evaluator = new WlessRuleEvaluator(new RuleEngineInvoker(null, null, engine), null);
+        evaluator.setRequestFactory(RecordingRuleReq::new);
+        evaluator.setColumnSetters(columnSetters);
+        evaluator.setBulkSize(bulkSize);
+        evaluator.setBulkRuleCodes(BULK_RULE_CODES);
+
+        RuleCallContext context = RuleCallContext.of("0", RULE_CODES, BATCH_EXEC_DT);
+
+        List<RuleWlessChkResltItem> results = new ArrayList<>();
+        List<PpWlessabcTxnItem> pending = new ArrayList<>(items);
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            List<PpWlessabcTxnItem> failed = new ArrayList<>();
+
+            if (attempt == 1) {
+                results.addAll(evaluator.evaluateBatch(pending, context, (item, cause) -> failed.add(item)));
+            } else {
+                for (PpWlessabcTxnItem item : pending) {
+                    results.addAll(evaluator.evaluateBatch(Collections.singletonList(item), context,
+                        (failedItem, cause) -> failed.add(failedItem)));
+                }
+            }
+
+            pending = failed;
+        }
+
+        for (PpWlessabcTxnItem item : pending) {
+            outcome.failedSvcContIds.add(item.getSvcContId());
+        }
+        for (RuleWlessChkResltItem result : results) {
+            String echoed = echoes.get(result);
+            if (echoed == null) {
+                outcome.misattributed.add(result.getSvcContId() + " ← " + ECHO_COLUMN + " 없음");
+            }
+            outcome.rows.add(result + " " + ECHO_COLUMN + "=" + echoed);
+        }
+        Collections.sort(outcome.rows);
+        outcome.calls = engine.calls.get();
+        return outcome;
+    }
+
+    private static List<PpWlessabcTxnItem> items(int count) {
+        List<PpWlessabcTxnItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(item(i, "N" + i));
+        }
+        return items;
+    }
+
+    private static PpWlessabcTxnItem item(int seq, String admOrgId) {
+        PpWlessabcTxnItem item = PpWlessabcTxnItemFixture.of(svcContId(seq), seq);
+        item.setAdmOrgId(admOrgId);
+        return item;
+    }
+
+    private static String svcContId(int seq) {
+        return String.format("S%011d", seq);
+    }
+
+    private static final class Outcome {
+        final Set<String> failedSvcContIds = new LinkedHashSet<>();
+        final List<String> rows = new ArrayList<>();
+        final List<String> misattributed = Collections.synchronizedList(new ArrayList<>());
+        int calls;
+    }
+
+    /**
+     * 지정한 룰 코드 + svc_cont_id가 요청에 들어 있으면 RulesException (벌크 요청이면 묶음 전체 실패)
+     */
+    private static final class FailingRuleEngine implements RuleInterface {
+
+        private final StubRuleEngine delegate = new StubRuleEngine(0d, 0d, 0d, 0L, 0L, 0d, 1, 42L,
+            Collections.singleton(ECHO_COLUMN));
+        private final Map<String, Set<String>> failing;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        FailingRuleEngine(Map<String, Set<String>> failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public ResultSet execute(RuleReq req) throws RulesException {
+            calls.incrementAndGet();
+
+            RecordingRuleReq recorded = (RecordingRuleReq) req;
+            for (String svcContId : failing.getOrDefault(recorded.ruleCode, Collections.emptySet())) {
+                if (recorded.keys.contains(svcContId)) {
+                    throw new RulesException("test: 실패 지정 ruleCode=" + recorded.ruleCode + ", svcContId=" + svcContId);
+                }
+            }
+            return delegate.execute(req);
+        }
+    }
+
+    /**
+     * 요청 룰 코드 / svc_cont_id 값을 기록하는 StubRuleReq
+     */
+    private static final class RecordingRuleReq extends StubRuleEngine.StubRuleReq {
+
+        private String ruleCode;
+        private final List<String> keys = new ArrayList<>();
+
+        @Override
+        public void setRuleCode(String ruleCode) {
+            super.setRuleCode(ruleCode);
+            this.ruleCode = ruleCode;
+        }
+
+        @Override
+        public void resetItems() {
+            super.resetItems();
+            keys.clear();
+        }
+
+        @Override
+        public Item addStringItem(String name) {
+            Item item = super.addStringItem(name);
+            if (!RuleResultMappingPlan.KEY_COLUMN.equals(name)) {
+                return item;
+            }
+            return new Item() {
+                @Override
+                public Item add(String value) {
+                    keys.add(value);
+                    item.add(value);
+                    return this;
+                }
+
+                @Override
+                public Item add(BigDecimal value) {
+                    item.add(value);
+                    return this;
+                }
+
+                @Override
+                public String getString(int index) {
+                    return item.getString(index);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.abc.batch.job.test.jmh;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.abc.batch.domain.RuleWlessChkResltItem;
+import com.abc.batch.job.test.CompiledRowMapping;
+import com.abc.batch.job.test.JdbcBatchInsertStrategy;
+
+/**
+ * 결과 저장 비용 (JDBC 드라이버 / DB 왕복 제외: 버리는 Connection / PreparedStatement에 바인딩)
+ *
+ * - baseline       : 기준 커밋 WlessMabcCursorTasklet.saveResults 그대로 (fixedValues / excludeFields 생성 → batchInsert)
+ *                    BatchInsertDao(com.abc.job.util)는 이 트리 밖 → batchInsert 내부는 같은 단계로 모델링
+ *                    (호출마다 getDeclaredFields → snake_case 컬럼 / INSERT SQL 생성 → 행마다 Field.get + setObject / addBatch)
+ * - jdbcBatchInsert: 같은 호출부에서 JdbcBatchInsertStrategy.load (CompiledRowMapping 캐시 + 컴파일된 접근자)
+ * - compiledMapping: CompiledRowMapping 값 추출만 (JDBC 바인딩 제외)
+ * - metadataOnly   : 기준 경로의 호출당 고정 비용 (필드 조회 / 컬럼명 변환)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertRowPreparationBenchmark {
+
+    private static final Set<String> EXCLUDE_FIELDS = Set.of("serialVersionUID");
+
+    @Param({"1000"})
+    private int rows;
+
+    private List<RuleWlessChkResltItem> results;
+    private Map<String, Object> fixedValues;
+
+    private DataSource dataSource;
+    private BatchInsertDaoModel batchInsertDao;
+    private JdbcBatchInsertStrategy jdbcBatchInsertStrategy;
+
+    @Setup
+    public void setUp() {
+        results = BenchmarkFixtures.resultItems(rows);
+
+        fixedValues = new HashMap<>();
+        fixedValues.put("regUser", "batch");
+        fixedValues.put("regDate", "SQL::now()");
+        fixedValues.put("updUser", "batch");
+        fixedValues.put("updDate", "SQL::now()");
+
+        dataSource = discardingDataSource();
+        batchInsertDao = new BatchInsertDaoModel(dataSource);
+        jdbcBatchInsertStrategy = new JdbcBatchInsertStrategy(dataSource);
+    }
+
+    @Benchmark
+    public int baseline() throws SQLException {
+        Map<String, Object> fixedValues = new HashMap<>();
+        fixedValues.put("regUser", "batch");
+        fixedValues.put("regDate", "SQL::now()");
+        fixedValues.put("updUser", "batch");
+        fixedValues.put("updDate", "SQL::now()");
+
+        Set<String> excludeFields = Set.of("serialVersionUID");
+
+        // 💾 BatchInsertDao로 일괄 저장
+        return batchInsertDao.batchInsert(
+            BenchmarkFixtures.RESULT_TABLE,
+            results,
+            excludeFields,
+            fixedValues
+        );
+    }
+
+    @Benchmark
+    public int jdbcBatchInsert() {
+        Map<String, Object> fixedValues = new HashMap<>();
+        fixedValues.put("regUser", "batch");
+        fixedValues.put("regDate", "SQL::now()");
+        fixedValues.put("updUser", "batch");
+        fixedValues.put("updDate", "SQL::now()");
+
+        Set<String> excludeFields = Set.of("serialVersionUID");
+
+        return jdbcBatchInsertStrategy.load(
+            BenchmarkFixtures.RESULT_TABLE,
+            results,
+            excludeFields,
+            fixedValues
+        );
+    }
+
+    @Benchmark
+    public void compiledMapping(Blackhole bh) {
+        CompiledRowMapping mapping = CompiledRowMapping.of(RuleWlessChkResltItem.class,
+            BenchmarkFixtures.RESULT_TABLE, EXCLUDE_FIELDS, fixedValues);
+        bh.consume(mapping.getInsertSql());
+
+        int fieldCount = mapping.fieldCount();
+        for (RuleWlessChkResltItem row : results) {
+            Object[] values = new Object[fieldCount];
+            for (int i = 0; i < fieldCount; i++) {
+                values[i] = mapping.fieldValue(i, row);
+            }
+            bh.consume(values);
+        }
+    }
+
+    @Benchmark
+    public List<String> metadataOnly() {
+        return BatchInsertDaoModel.columnNames(BatchInsertDaoModel.insertFields(RuleWlessChkResltItem.class, EXCLUDE_FIELDS), fixedValues);
+    }
+
+    /**
+     * BatchInsertDao.batchInsert 모델 (호출마다 리플렉션으로 컬럼 / SQL 생성, 행마다 Field.get 바인딩)
+     */
+    private static final class BatchInsertDaoModel {
+
+        private final DataSource dataSource;
+
+        BatchInsertDaoModel(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        <T> int batchInsert(String table, List<T> rows, Set<String> excludeFields, Map<String, Object> fixedValues)
+                throws SQLException {
+
+            if (rows.isEmpty()) {
+                return 0;
+            }
+
+            List<Field> fields = insertFields(rows.get(0).getClass(), excludeFields);
+            List<String> columns = columnNames(fields, fixedValues);
+
+            StringBuilder values = new StringBuilder();
+            for (int i = 0; i < fields.size(); i++) {
+                values.append(i == 0 ? "?" : ", ?");
+            }
+            List<Object> fixedParams = new ArrayList<>();
+            for (Object fixed : fixedValues.values()) {
+                String value = String.valueOf(fixed);
+                if (value.startsWith("SQL::")) {
+                    values.append(", ").append(value.substring(5));
+                } else {
+                    values.append(", ?");
+                    fixedParams.add(fixed);
+                }
+            }
+            String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + values + ")";
+
+            try (Connection conn = dataSource.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+
+                for (T row : rows) {
+                    int parameter = 1;
+                    for (Field field : fields) {
+                        try {
+                            ps.setObject(parameter++, field.get(row));
+                        } catch (IllegalAccessException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                    for (Object fixed : fixedParams) {
+                        ps.setObject(parameter++, fixed);
+                    }
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            return rows.size();
+        }
+
+        static List<Field> insertFields(Class<?> type, Set<String> excludeFields) {
+            List<Field> fields = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || excludeFields.contains(field.getName())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                fields.add(field);
+            }
+            return fields;
+        }
+
+        static List<String> columnNames(List<Field> fields, Map<String, Object> fixedValues) {
+            List<String> columns = new ArrayList<>(fields.size() + fixedValues.size());
+            for (Field field : fields) {
+                columns.add(toSnakeCase(field.getName()));
+            }
+            for (String name : fixedValues.keySet()) {
+                columns.add(toSnakeCase(name));
+            }
+            return columns;
+        }
+
+        private static String toSnakeCase(String name) {
+            StringBuilder sb = new StringBuilder(name.length() + 8);
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (Character.isUpperCase(c)) {
+                    sb.append('_').append(Character.toLowerCase(c));
+                } else {
+                    sb.append(c);
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * 바인딩 값을 버리는 DataSource (executeBatch는 빈 결과)
+     */
+    private static DataSource discardingDataSource() {
+        PreparedStatement ps = discarding(PreparedStatement.class, null);
+        Connection conn = discarding(Connection.class, ps);
+        return discarding(DataSource.class, conn);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T discarding(Class<T> type, Object child) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            Class<?> returnType = method.getReturnType();
+            if (child != null && returnType.isInstance(child)) {
+                return child;
+            }
+            if (returnType == int[].class) {
+                return new int[0];
+            }
+            if (returnType == boolean.class) {
+                return false;
+            }
+            if (returnType == int.class) {
+                return 0;
+            }
+            if (returnType == long.class) {
+                return 0L;
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package com.abc.batch.job.test.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.abc.batch.domain.PpWlessabcTxnItem;
+import com.abc.batch.domain.RuleWlessChkResltItem;
+import com.abc.batch.job.test.PpWlessabcTxnItemFixture;
+
+/**
+ * 벤치마크 공통 입력 데이터 (운영 데이터 형태를 흉내 낸 고정 값)
+ */
+final class BenchmarkFixtures {
+
+    static final String RULE_CODE = "R001";
+    static final String BATCH_EXEC_DT = "20261017000000";
+    static final String RESULT_TABLE = "abcBAT.TMP_RULE_WLESS_CHK_RESLT_01";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 파라미터 테이블 입력 건 1개 (룰 바인딩 항목 전체 채움)
+     */
+    static PpWlessabcTxnItem txnItem(int seq) {
+        return PpWlessabcTxnItemFixture.of(String.format("S%011d", seq), seq);
+    }
+
+    static List<PpWlessabcTxnItem> txnItems(int count) {
+        List<PpWlessabcTxnItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(txnItem(i));
+        }
+        return items;
+    }
+
+    /**
+     * 룰 결과 건 목록 (BatchInsertDao 저장 대상)
+     */
+    static List<RuleWlessChkResltItem> resultItems(int count) {
+        List<RuleWlessChkResltItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RuleWlessChkResltItem item = new RuleWlessChkResltItem();
+            item.setSvcContId(String.format("S%011d", i));
+            items.add(item);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,61 @@
+package com.abc.batch.job.test.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+
+import com.abc.batch.domain.PpWlessabcTxnItem;
+import com.abc.batch.domain.RuleWlessChkResltItem;
+
+/**
+ * 입력 / 결과 객체 생성 비용 (gc.alloc.rate.norm = 건당 할당 바이트)
+ *
+ * - txnItem       : Cursor / PagingReader가 건마다 만드는 입력 객체 (값 채움 포함)
+ * - resultItem    : 결과 행마다 만드는 결과 객체
+ * - copyResultItem: RuleResultCache 적중 시 결과 복사 (BeanUtils.copyProperties)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultItemAllocationBenchmark {
+
+    private int seq;
+    private RuleWlessChkResltItem cached;
+
+    @Setup
+    public void setUp() {
+        cached = BenchmarkFixtures.resultItems(1).get(0);
+    }
+
+    @Benchmark
+    public PpWlessabcTxnItem txnItem() {
+        return BenchmarkFixtures.txnItem(seq++);
+    }
+
+    @Benchmark
+    public RuleWlessChkResltItem resultItem() {
+        RuleWlessChkResltItem item = new RuleWlessChkResltItem();
+        item.setSvcContId(cached.getSvcContId());
+        return item;
+    }
+
+    @Benchmark
+    public RuleWlessChkResltItem copyResultItem() {
+        RuleWlessChkResltItem copy = new RuleWlessChkResltItem();
+        BeanUtils.copyProperties(cached, copy);
+        return copy;
+    }
+}
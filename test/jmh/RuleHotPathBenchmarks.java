@@ -0,0 +1,42 @@
+package com.abc.batch.job.test.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 룰 평가 hot path 마이크로벤치마크 실행 (튜닝 전 기준값 측정용)
+ *
+ * 대상:
+ * - RuleRequestBindBenchmark          : 룰 요청 파라미터 설정
+ * - RuleResultMappingBenchmark        : 룰 결과 파싱 루프
+ * - ResultItemAllocationBenchmark     : 입력 / 결과 객체 생성
+ * - BatchInsertRowPreparationBenchmark: BatchInsertDao 행 준비
+ *
+ * - GC 프로파일러 포함 → gc.alloc.rate.norm (호출당 할당 바이트) 함께 기록
+ * - 결과: jmh-result.json (기준값과 비교할 때 같은 JDK / 같은 머신에서 실행)
+ * - 기준값: jmh-result-baseline.json / BASELINE_RESULTS.md (기준 커밋 코드 경로 포함 1회 실행)
+ * - 의존성: jmh-core, jmh-generator-annprocess (annotation processor), InnoRules client, spring-beans
+ *
+ * 실행: java com.abc.batch.job.test.jmh.RuleHotPathBenchmarks [벤치마크 이름 정규식]
+ */
+public class RuleHotPathBenchmarks {
+
+    public static void main(String[] args) throws RunnerException {
+
+        String include = args.length > 0 ? args[0] : RuleHotPathBenchmarks.class.getPackage().getName() + ".*Benchmark";
+
+        Options options = new OptionsBuilder()
+            .include(include)
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .resultFormat(ResultFormatType.JSON)
+            .result("jmh-result.json")
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,109 @@
+package com.abc.batch.job.test.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.abc.batch.domain.PpWlessabcTxnItem;
+import com.abc.batch.job.test.RuleRequestBinder;
+import com.innoexpert.rulesclient.RuleReq;
+
+/**
+ * 룰 요청 파라미터 설정 (기존 setRuleRequestParams → RuleRequestBinder)
+ *
+ * - baseline         : 기준 커밋 WlessMabcCursorTasklet.callRuleEngine / setRuleRequestParams 그대로
+ *                      (건마다 RuleReq 생성, setRuleCode / setDate / resetItems 후 17개 항목 추가)
+ * - reusedRequest    : 쓰레드별 RuleReq 재사용 + resetItems (WlessRuleEvaluator 방식)
+ * - bulkRequest      : bulkSize건을 RuleReq 1개에 바인딩 (벌크 모드)
+ * - fingerprint      : 메모이제이션 / 증분 평가 키 생성
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RuleRequestBindBenchmark {
+
+    @Param({"50"})
+    private int bulkSize;
+
+    private final RuleRequestBinder<PpWlessabcTxnItem> binder = RuleRequestBinder.PP_WLESSABC_TXN;
+
+    private PpWlessabcTxnItem item;
+    private List<PpWlessabcTxnItem> items;
+    private RuleReq reused;
+
+    @Setup
+    public void setUp() {
+        item = BenchmarkFixtures.txnItem(1);
+        items = BenchmarkFixtures.txnItems(bulkSize);
+        reused = new RuleReq();
+    }
+
+    @Benchmark
+    public RuleReq baseline() {
+        RuleReq req = new RuleReq();
+        req.setRuleCode(BenchmarkFixtures.RULE_CODE.trim());
+        req.setDate(BenchmarkFixtures.BATCH_EXEC_DT);
+        req.resetItems();
+
+        setRuleRequestParams(req, item);
+        return req;
+    }
+
+    @Benchmark
+    public RuleReq reusedRequest() {
+        reused.setRuleCode(BenchmarkFixtures.RULE_CODE);
+        reused.resetItems();
+        binder.bind(reused, item);
+        return reused;
+    }
+
+    @Benchmark
+    public RuleReq bulkRequest() {
+        reused.setRuleCode(BenchmarkFixtures.RULE_CODE);
+        reused.resetItems();
+        binder.bind(reused, items);
+        return reused;
+    }
+
+    @Benchmark
+    public String fingerprint() {
+        return binder.fingerprint(item);
+    }
+
+    /**
+     * 기준 커밋 WlessMabcCursorTasklet.setRuleRequestParams (변경 없이 복사)
+     */
+    private void setRuleRequestParams(RuleReq req, PpWlessabcTxnItem paramItem) {
+        req.addStringItem("base_date").add(paramItem.getBaseDate());
+        req.addStringItem("wrkjob_ym").add(paramItem.getWrkjobYm());
+        req.addStringItem("base_ym").add(paramItem.getBaseYm());
+        req.addStringItem("svc_cont_id").add(paramItem.getSvcContId());
+        req.addStringItem("ev_occ_dt").add(paramItem.getEvOccDt());
+        req.addStringItem("sbsc_div_cd").add(paramItem.getSbscDivCd());
+        req.addStringItem("svc_cont_div_cd").add(paramItem.getSvcContDivCd());
+        req.addStringItem("chk_scope_val").add(paramItem.getWrkjobScope());
+        req.addStringItem("adm_org_id").add(paramItem.getAdmOrgId());
+        req.addStringItem("cpnt_id").add(paramItem.getCpntId());
+        req.addNumberItem("same_nfl_vqnt_circuit_cnt").add(paramItem.getSameNflVqntCircuitCnt());
+        req.addNumberItem("same_nfl_mysh_vqnt_circuit_cnt").add(paramItem.getSameNflMyshVqntCircuitCnt());
+        req.addStringItem("cust_bthday_date").add(paramItem.getCustBthdayDate());
+        req.addStringItem("crclt_sho_nflr_yn").add(paramItem.getCrcltShoNflrYn());
+        req.addStringItem("new_icg_dt").add(paramItem.getNewIcgDt());
+        req.addNumberItem("npay_tmscnt").add(paramItem.getNpayTmscnt());
+        req.addNumberItem("npay_amt").add(paramItem.getNpayAmt());
+    }
+}
@@ -0,0 +1,200 @@
+package com.abc.batch.job.test.jmh;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.abc.batch.domain.PpWlessabcTxnItem;
+import com.abc.batch.domain.RuleWlessChkResltItem;
+import com.abc.batch.job.test.RuleResultMappingPlan;
+import com.innoexpert.rulesclient.Constants;
+import com.innoexpert.rulesclient.Item;
+import com.innoexpert.rulesclient.ResultSet;
+import com.innoexpert.rulesclient.ResultSetMetaData;
+import com.innoexpert.rulesclient.RulesException;
+
+/**
+ * 룰 결과 파싱 루프 (기존 mapResultToItem → RuleResultMappingPlan)
+ *
+ * - baseline  : 기준 커밋 WlessMabcCursorTasklet.callRuleEngine 결과 파싱 루프 그대로
+ *               (행마다 getMetaData / getColumnCount, 컬럼마다 getItem / getColumnName → mapResultToItem)
+ *               기준 커밋의 mapResultToItem은 본문이 비어 있음 → 값 설정 비용은 포함되지 않음
+ * - cachedPlan: 룰 코드별로 1회 만든 매핑 계획으로 파싱 (WlessRuleEvaluator 방식, 값 설정 포함)
+ * - 결과 행은 메모리에 고정 (네트워크 / 룰엔진 비용 제외, 파싱 비용만 측정)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RuleResultMappingBenchmark {
+
+    @Param({"1", "10"})
+    private int rows;
+
+    private PpWlessabcTxnItem source;
+    private FixedResultSet rs;
+    private RuleResultMappingPlan plan;
+    private Map<String, Object> params;
+
+    @Setup
+    public void setUp() throws RulesException {
+        source = BenchmarkFixtures.txnItem(1);
+        rs = new FixedResultSet(rows, source.getSvcContId());
+        plan = RuleResultMappingPlan.compile(BenchmarkFixtures.RULE_CODE, rs.getMetaData());
+
+        params = new HashMap<>();
+        params.put("threadNo", 1);
+        params.put("apiId", BenchmarkFixtures.RULE_CODE);
+        params.put("batchExecDt", BenchmarkFixtures.BATCH_EXEC_DT);
+    }
+
+    @Benchmark
+    public List<RuleWlessChkResltItem> baseline() throws RulesException {
+        PpWlessabcTxnItem paramItem = source;
+        List<RuleWlessChkResltItem> rstList = new ArrayList<>();
+        Item item;
+        ResultSetMetaData rsmd;
+        int iColCnt;
+        int iRuleCodeType = Constants.CODETYPE_ALIAS;
+
+        rs.rewind();
+
+        // 결과 파싱
+        while (rs.next()) {
+            RuleWlessChkResltItem rstItem = new RuleWlessChkResltItem();
+
+            rsmd = rs.getMetaData();
+            iColCnt = rsmd.getColumnCount();
+
+            for (int i = 1; i <= iColCnt; i++) {
+                item = rs.getItem(i);
+                String colNm = rsmd.getColumnName(i, iRuleCodeType);
+
+                // 컬럼 매핑 로직 (필요시 확장)
+                mapResultToItem(rstItem, colNm, item, paramItem, params);
+            }
+
+            rstList.add(rstItem);
+        }
+
+        return rstList;
+    }
+
+    @Benchmark
+    public void cachedPlan(Blackhole bh) throws RulesException {
+        rs.rewind();
+        while (rs.next()) {
+            bh.consume(plan.map(rs, source));
+        }
+    }
+
+    /**
+     * 기준 커밋 WlessMabcCursorTasklet.mapResultToItem (변경 없이 복사)
+     */
+    private void mapResultToItem(RuleWlessChkResltItem rstItem,
+                                  String colNm,
+                                  Item item,
+                                  PpWlessabcTxnItem paramItem,
+                                  Map<String, Object> params) {
+
+        // 기존 Processor의 매핑 로직 이관
+        // 컬럼명에 따라 rstItem의 필드에 값 설정
+        // 실제 구현 시 WlessMabcQatCplyPerpProcessor의 매핑 로직 복사
+    }
+
+    /**
+     * 같은 행을 rows번 돌려주는 결과 (컬럼 = 매핑 등록 컬럼)
+     */
+    private static final class FixedResultSet implements ResultSet, ResultSetMetaData {
+
+        private final List<String> columns = new ArrayList<>();
+        private final List<Item> values = new ArrayList<>();
+        private final int rows;
+        private int row;
+
+        FixedResultSet(int rows, String svcContId) {
+            this.rows = rows;
+
+            columns.add(RuleResultMappingPlan.KEY_COLUMN);
+            values.add(new FixedItem(svcContId));
+
+            for (String column : RuleResultMappingPlan.registeredColumns()) {
+                if (!RuleResultMappingPlan.KEY_COLUMN.equals(column)) {
+                    columns.add(column);
+                    values.add(new FixedItem(BenchmarkFixtures.RULE_CODE));
+                }
+            }
+        }
+
+        void rewind() {
+            row = 0;
+        }
+
+        @Override
+        public boolean next() {
+            return row++ < rows;
+        }
+
+        @Override
+        public ResultSetMetaData getMetaData() {
+            return this;
+        }
+
+        @Override
+        public Item getItem(int column) {
+            return values.get(column - 1);
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columns.size();
+        }
+
+        @Override
+        public String getColumnName(int column, int codeType) {
+            return columns.get(column - 1).toUpperCase();
+        }
+    }
+
+    private static final class FixedItem implements Item {
+
+        private final String value;
+
+        FixedItem(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Item add(String v) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Item add(BigDecimal v) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getString(int index) {
+            return value;
+        }
+    }
+}